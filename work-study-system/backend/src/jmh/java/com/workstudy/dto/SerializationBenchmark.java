@@ -0,0 +1,143 @@
+package com.workstudy.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workstudy.entity.Application;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.entity.User;
+import com.workstudy.entity.WorkHours;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a page of applications and work hours both as entity graphs and as
+ * the views the API returns, using the same ObjectMapper defaults as Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    @Param({"50"})
+    private int size;
+    
+    private ObjectMapper objectMapper;
+    private List<Application> applications;
+    private List<WorkHours> workHours;
+    private List<ApplicationView> applicationViews;
+    private List<WorkHoursView> workHoursViews;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        
+        User admin = user(1L, "admin", User.Role.ADMIN);
+        applications = new ArrayList<>();
+        workHours = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            User student = user(100L + i, "student" + i, User.Role.STUDENT);
+            JobPosting job = job(10L + i % 5, admin);
+            applications.add(application(i, student, job, admin));
+            workHours.add(workHours(i, student, job, admin));
+        }
+        applicationViews = applications.stream().map(ApplicationView::from).toList();
+        workHoursViews = workHours.stream().map(WorkHoursView::from).toList();
+    }
+    
+    @Benchmark
+    public byte[] applicationEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(applications);
+    }
+    
+    @Benchmark
+    public byte[] applicationViews() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(applicationViews);
+    }
+    
+    @Benchmark
+    public byte[] workHoursEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(workHours);
+    }
+    
+    @Benchmark
+    public byte[] workHoursViews() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(workHoursViews);
+    }
+    
+    private static User user(Long id, String username, User.Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuuSomeBcryptHashValueForBenchmarks");
+        user.setEmail(username + "@workstudy.edu");
+        user.setFullName("User " + username);
+        user.setRole(role);
+        user.setDepartment("Computer Science");
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return user;
+    }
+    
+    private static JobPosting job(Long id, User postedBy) {
+        JobPosting job = new JobPosting();
+        job.setId(id);
+        job.setTitle("Library Assistant " + id);
+        job.setDescription("Assist librarians with book shelving, cataloging, and helping students find resources.");
+        job.setDepartment("Library");
+        job.setLocation("Main Library");
+        job.setHourlyRate(new BigDecimal("15.00"));
+        job.setMaxHoursPerWeek(15);
+        job.setTotalPositions(3);
+        job.setFilledPositions(1);
+        job.setApplicationDeadline(LocalDate.now().plusMonths(1));
+        job.setPostedBy(postedBy);
+        job.setCreatedAt(LocalDateTime.now());
+        job.setUpdatedAt(LocalDateTime.now());
+        return job;
+    }
+    
+    private static Application application(long id, User student, JobPosting job, User reviewer) {
+        Application application = new Application();
+        application.setId(id);
+        application.setStudent(student);
+        application.setJob(job);
+        application.setCoverLetter("I am very interested in this position and have relevant experience.");
+        application.setStatus(Application.Status.APPROVED);
+        application.setAdminNotes("Good fit");
+        application.setAppliedAt(LocalDateTime.now());
+        application.setReviewedAt(LocalDateTime.now());
+        application.setReviewedBy(reviewer);
+        return application;
+    }
+    
+    private static WorkHours workHours(long id, User student, JobPosting job, User approver) {
+        WorkHours workHours = new WorkHours();
+        workHours.setId(id);
+        workHours.setStudent(student);
+        workHours.setJob(job);
+        workHours.setWorkDate(LocalDate.now());
+        workHours.setStartTime(LocalTime.of(9, 0));
+        workHours.setEndTime(LocalTime.of(12, 30));
+        workHours.setHoursWorked(new BigDecimal("3.50"));
+        workHours.setDescription("Shelved returned books and helped at the front desk.");
+        workHours.setStatus(WorkHours.Status.APPROVED);
+        workHours.setApprovedBy(approver);
+        workHours.setApprovedAt(LocalDateTime.now());
+        workHours.setCreatedAt(LocalDateTime.now());
+        return workHours;
+    }
+}
@@ -0,0 +1,52 @@
+package com.workstudy.security;
+
+import com.workstudy.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", "workstudysecretkeyworkstudysecretkeyworkstudysecretkey");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86400000);
+        jwtUtil.init();
+        
+        user = new User();
+        user.setId(42L);
+        user.setUsername("student");
+        user.setFullName("Test Student");
+        user.setRole(User.Role.STUDENT);
+        token = jwtUtil.generateToken(user);
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+    
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+    
+    @Benchmark
+    public UserDetailsImpl principalFromToken() {
+        return jwtUtil.parseToken(token).map(UserDetailsImpl::fromClaims).orElseThrow();
+    }
+}
@@ -0,0 +1,42 @@
+package com.workstudy.service;
+
+import com.workstudy.entity.WorkHours;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The admin dashboard is served from DashboardStatsService; the repositories are
+ * only used by reconciliation, which is not measured here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DashboardStatsBenchmark {
+    private static final BigDecimal HOURS = new BigDecimal("3.50");
+    
+    private DashboardStatsService stats;
+    
+    @Setup
+    public void setUp() {
+        stats = new DashboardStatsService(null, null, null, null);
+    }
+    
+    @Benchmark
+    public Map<String, Object> adminSnapshot() {
+        return stats.getSnapshot();
+    }
+    
+    @Benchmark
+    public void approveWorkHours() {
+        stats.workHoursChanged(WorkHours.Status.PENDING, HOURS, WorkHours.Status.APPROVED, HOURS);
+    }
+}
@@ -0,0 +1,37 @@
+package com.workstudy.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorkHoursMathBenchmark {
+    @Param({"09:00-17:00", "08:07-11:52"})
+    private String shift;
+    
+    private LocalTime startTime;
+    private LocalTime endTime;
+    
+    @Setup
+    public void setUp() {
+        String[] parts = shift.split("-");
+        startTime = LocalTime.parse(parts[0]);
+        endTime = LocalTime.parse(parts[1]);
+    }
+    
+    @Benchmark
+    public BigDecimal hoursBetween() {
+        return WorkHoursService.hoursBetween(startTime, endTime);
+    }
+}
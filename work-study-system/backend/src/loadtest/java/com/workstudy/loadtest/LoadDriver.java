@@ -0,0 +1,310 @@
+package com.workstudy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Closed-loop HTTP load driver for the REST API. Each worker thread repeatedly picks an
+ * endpoint from a weighted student/admin request mix, sends it with a token from a pool
+ * of logged-in users and records the latency. After the run it prints throughput and
+ * p50/p95/p99 latency per endpoint, and optionally writes them as JSON.
+ *
+ * Configured with system properties: loadtest.url, loadtest.threads, loadtest.duration,
+ * loadtest.warmup (seconds), loadtest.students (logins to pool), loadtest.studentPrefix,
+ * loadtest.password, loadtest.adminUser, loadtest.adminPassword, loadtest.result,
+ * loadtest.endpoints (a regex on endpoint names to run only part of the mix) and
+ * loadtest.loginRate.
+ *
+ * With loadtest.loginRate above zero, logins of the pooled students are also sent open
+ * loop at that many per second alongside the mix and reported as their own row, to see
+ * how a login storm affects the other endpoints' latency.
+ */
+public class LoadDriver {
+    
+    record Session(String token, long userId) {
+    }
+    
+    record Endpoint(String name, boolean admin, int weight, Function<Sessions, String> path) {
+    }
+    
+    record Sessions(Session user, List<Session> students) {
+        long randomStudentId() {
+            return students.get(ThreadLocalRandom.current().nextInt(students.size())).userId();
+        }
+    }
+    
+    private static final List<Endpoint> ALL_ENDPOINTS = List.of(
+            new Endpoint("GET /api/jobs/active", false, 25, s -> "/api/jobs/active"),
+            new Endpoint("GET /api/dashboard/student", false, 10, s -> "/api/dashboard/student"),
+            new Endpoint("GET /api/applications/my", false, 12, s -> "/api/applications/my"),
+            new Endpoint("GET /api/workhours/my", false, 15, s -> "/api/workhours/my"),
+            new Endpoint("GET /api/workhours/my/total", false, 8, s -> "/api/workhours/my/total"),
+            new Endpoint("GET /api/workhours/my/summary", false, 5, s -> "/api/workhours/my/summary"),
+            new Endpoint("GET /api/feedback/my", false, 5, s -> "/api/feedback/my"),
+            new Endpoint("GET /api/dashboard/admin", true, 5, s -> "/api/dashboard/admin"),
+            new Endpoint("GET /api/applications", true, 5, s -> "/api/applications"),
+            new Endpoint("GET /api/applications/status/PENDING", true, 3, s -> "/api/applications/status/PENDING"),
+            new Endpoint("GET /api/workhours", true, 4, s -> "/api/workhours"),
+            new Endpoint("GET /api/workhours/student/{id}/summary", true, 3,
+                    s -> "/api/workhours/student/" + s.randomStudentId() + "/summary")
+    );
+    
+    private final String baseUrl = System.getProperty("loadtest.url", "http://localhost:8080");
+    private final int threads = Integer.getInteger("loadtest.threads", 32);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+    private final int studentLogins = Integer.getInteger("loadtest.students", 200);
+    private final String studentPrefix = System.getProperty("loadtest.studentPrefix", "loadstudent");
+    private final String password = System.getProperty("loadtest.password", "password");
+    private final String adminUser = System.getProperty("loadtest.adminUser", "admin");
+    private final String adminPassword = System.getProperty("loadtest.adminPassword", "admin123");
+    private final String resultFile = System.getProperty("loadtest.result", "");
+    private final int loginRate = Integer.getInteger("loadtest.loginRate", 0);
+    private final List<Endpoint> mix = ALL_ENDPOINTS.stream()
+            .filter(e -> e.name().matches(System.getProperty("loadtest.endpoints", ".*")))
+            .toList();
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    
+    public static void main(String[] args) throws Exception {
+        new LoadDriver().run();
+    }
+    
+    void run() throws Exception {
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.endpoints matches no endpoint");
+        }
+        System.out.printf("Logging in admin and %d students at %s%n", studentLogins, baseUrl);
+        Session admin = login(adminUser, adminPassword);
+        List<Session> students = new ArrayList<>();
+        for (int i = 0; i < studentLogins; i++) {
+            students.add(login(studentPrefix + i, password));
+        }
+        
+        int totalWeight = mix.stream().mapToInt(Endpoint::weight).sum();
+        long warmupEnd = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long end = warmupEnd + durationSeconds * 1_000_000_000L;
+        System.out.printf("Running %d threads: %d s warm-up, %d s measured%n", threads, warmupSeconds, durationSeconds);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Recorder[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> worker(admin, students, totalWeight, warmupEnd, end)));
+        }
+        Recorder logins = new Recorder();
+        Thread loginBurst = null;
+        if (loginRate > 0) {
+            System.out.printf("Sending %d logins per second alongside the mix%n", loginRate);
+            loginBurst = Thread.ofVirtual().start(() -> loginBurst(logins, warmupEnd, end));
+        }
+        Recorder[] totals = newRecorders();
+        for (Future<Recorder[]> future : futures) {
+            Recorder[] recorders = future.get();
+            for (int i = 0; i < totals.length; i++) {
+                totals[i].merge(recorders[i]);
+            }
+        }
+        executor.shutdown();
+        if (loginBurst != null) {
+            loginBurst.join();
+        }
+        report(totals, loginRate > 0 ? logins : null);
+    }
+    
+    private Recorder[] worker(Session admin, List<Session> students, int totalWeight, long warmupEnd, long end) {
+        Recorder[] recorders = newRecorders();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= end) {
+                return recorders;
+            }
+            int index = pick(random.nextInt(totalWeight));
+            Endpoint endpoint = mix.get(index);
+            Session session = endpoint.admin() ? admin : students.get(random.nextInt(students.size()));
+            boolean ok;
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path().apply(new Sessions(session, students))))
+                        .header("Authorization", "Bearer " + session.token())
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build();
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return recorders;
+            }
+            if (start >= warmupEnd) {
+                recorders[index].record(System.nanoTime() - start, ok);
+            }
+        }
+    }
+    
+    // Open loop: requests go out on schedule whether or not earlier ones have been answered. A client
+    // of its own, so the burst's connections do not queue up the mix's requests inside the shared one
+    private void loginBurst(Recorder logins, long warmupEnd, long end) {
+        HttpClient burstClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        long interval = 1_000_000_000L / loginRate;
+        long next = System.nanoTime();
+        for (long i = 0; next < end; i++, next += interval) {
+            LockSupport.parkNanos(next - System.nanoTime());
+            long start = System.nanoTime();
+            String body = "{\"username\":\"" + studentPrefix + (i % studentLogins) + "\",\"password\":\"" + password + "\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            inFlight.add(burstClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                if (start >= warmupEnd) {
+                    synchronized (logins) {
+                        logins.record(System.nanoTime() - start, error == null && response.statusCode() == 200);
+                    }
+                }
+            }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).exceptionally(error -> null).join();
+    }
+    
+    private int pick(int roll) {
+        for (int i = 0; i < mix.size(); i++) {
+            roll -= mix.get(i).weight();
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return mix.size() - 1;
+    }
+    
+    private Session login(String username, String userPassword) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", userPassword));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + username + ": HTTP " + response.statusCode());
+        }
+        JsonNode json = objectMapper.readTree(response.body());
+        return new Session(json.get("token").asText(), json.path("user").path("id").asLong());
+    }
+    
+    private void report(Recorder[] recorders, Recorder logins) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        Recorder all = new Recorder();
+        for (int i = 0; i < recorders.length; i++) {
+            rows.add(recorders[i].summary(mix.get(i).name(), durationSeconds));
+            all.merge(recorders[i]);
+        }
+        rows.add(all.summary("TOTAL", durationSeconds));
+        if (logins != null) {
+            // Kept out of TOTAL, which describes the mix; rejected logins count as errors
+            synchronized (logins) {
+                rows.add(logins.summary("POST /api/auth/login (burst)", durationSeconds));
+            }
+        }
+        
+        System.out.printf("%n%-45s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Map<String, Object> row : rows) {
+            System.out.printf("%-45s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.get("endpoint"), row.get("requests"), row.get("errors"), row.get("throughput"),
+                    row.get("p50"), row.get("p95"), row.get("p99"), row.get("max"));
+        }
+        if (!resultFile.isBlank()) {
+            objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(new File(resultFile), rows);
+            System.out.println("\nResults written to " + resultFile);
+        }
+    }
+    
+    private Recorder[] newRecorders() {
+        Recorder[] recorders = new Recorder[mix.size()];
+        for (int i = 0; i < recorders.length; i++) {
+            recorders[i] = new Recorder();
+        }
+        return recorders;
+    }
+    
+    /**
+     * Latency samples for one endpoint, kept raw so percentiles are exact.
+     */
+    static class Recorder {
+        private long[] samples = new long[1024];
+        private int count;
+        private long errors;
+        
+        void record(long nanos, boolean ok) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+        
+        void merge(Recorder other) {
+            if (count + other.count > samples.length) {
+                samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+            }
+            System.arraycopy(other.samples, 0, samples, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+        
+        Map<String, Object> summary(String endpoint, int durationSeconds) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint);
+            row.put("requests", (long) count);
+            row.put("errors", errors);
+            row.put("throughput", (double) count / durationSeconds);
+            row.put("p50", percentile(sorted, 0.50));
+            row.put("p95", percentile(sorted, 0.95));
+            row.put("p99", percentile(sorted, 0.99));
+            row.put("max", count == 0 ? 0.0 : sorted[count - 1] / 1e6);
+            return row;
+        }
+        
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
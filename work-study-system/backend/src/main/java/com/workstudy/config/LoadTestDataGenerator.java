@@ -0,0 +1,259 @@
+package com.workstudy.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads production-sized synthetic data for load testing. Rows are written with
+ * plain JDBC batches rather than through JPA, with IDs assigned here and the sequences
+ * moved past them afterwards; every student shares one password so only a single
+ * BCrypt hash is computed. Runs after DataInitializer and only once per
+ * database: generated students are named loadstudent0, loadstudent1, ...
+ */
+@Component
+@Profile("loadtest")
+@Order(2)
+@RequiredArgsConstructor
+public class LoadTestDataGenerator implements CommandLineRunner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDataGenerator.class);
+    
+    private static final String[] DEPARTMENTS = {
+            "Computer Science", "Mathematics", "Physics", "Library", "Administration",
+            "Electronics Engineering", "Student Services", "Athletics", "Dining Services", "IT Services"
+    };
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final SequenceAligner sequenceAligner;
+    
+    @Value("${loadtest.students:100000}")
+    private int students;
+    
+    @Value("${loadtest.jobs:5000}")
+    private int jobs;
+    
+    @Value("${loadtest.applications:1000000}")
+    private long applications;
+    
+    @Value("${loadtest.work-hours:10000000}")
+    private long workHours;
+    
+    @Value("${loadtest.batch-size:5000}")
+    private int batchSize;
+    
+    @Value("${loadtest.password:password}")
+    private String password;
+    
+    @Value("${loadtest.seed:42}")
+    private long seed;
+    
+    @Override
+    public void run(String... args) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username = 'loadstudent0'", Integer.class);
+        if (existing != null && existing > 0) {
+            logger.info("Load-test data already present, skipping generation");
+            return;
+        }
+        if (applications > (long) students * jobs) {
+            throw new IllegalStateException("loadtest.applications cannot exceed students * jobs");
+        }
+        
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        
+        Long adminId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM users WHERE role = 'ADMIN'", Long.class);
+        if (adminId == null) {
+            throw new IllegalStateException("An admin user is required before generating load-test data");
+        }
+        
+        long firstStudentId = insertStudents();
+        long firstJobId = insertJobs(adminId, random);
+        insertApplications(firstStudentId, firstJobId, adminId, random);
+        insertWorkHours(firstStudentId, firstJobId, adminId, random);
+        sequenceAligner.align();
+        
+        logger.info("Generated load-test data in {} s", (System.currentTimeMillis() - started) / 1000);
+    }
+    
+    private long insertStudents() {
+        String hash = passwordEncoder.encode(password);
+        LocalDateTime now = LocalDateTime.now();
+        return batch("users", students,
+                "INSERT INTO users (username, password, email, full_name, role, phone, department, active, created_at, updated_at, id) " +
+                "VALUES (?, ?, ?, ?, 'STUDENT', ?, ?, TRUE, ?, ?, ?)",
+                (ps, i) -> {
+                    ps.setString(1, "loadstudent" + i);
+                    ps.setString(2, hash);
+                    ps.setString(3, "loadstudent" + i + "@workstudy.edu");
+                    ps.setString(4, "Load Student " + i);
+                    ps.setString(5, String.format("9%09d", i));
+                    ps.setString(6, DEPARTMENTS[(int) (i % DEPARTMENTS.length)]);
+                    ps.setObject(7, now);
+                    ps.setObject(8, now);
+                });
+    }
+    
+    private long insertJobs(long adminId, SplittableRandom random) {
+        LocalDateTime now = LocalDateTime.now();
+        return batch("job_postings", jobs,
+                "INSERT INTO job_postings (title, description, department, location, hourly_rate, max_hours_per_week, " +
+                "total_positions, filled_positions, application_deadline, status, posted_by, created_at, updated_at, id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?)",
+                (ps, i) -> {
+                    String department = DEPARTMENTS[(int) (i % DEPARTMENTS.length)];
+                    int roll = random.nextInt(10);
+                    ps.setString(1, "Load test job " + i);
+                    ps.setString(2, "Synthetic " + department + " position used for load testing.");
+                    ps.setString(3, department);
+                    ps.setString(4, department + " Building");
+                    ps.setBigDecimal(5, BigDecimal.valueOf(1200 + random.nextInt(1300), 2));
+                    ps.setInt(6, 5 + random.nextInt(16));
+                    ps.setInt(7, 1 + random.nextInt(10));
+                    ps.setObject(8, LocalDate.now().plusDays(random.nextInt(-30, 90)));
+                    ps.setString(9, roll < 8 ? "ACTIVE" : roll == 8 ? "CLOSED" : "FILLED");
+                    ps.setLong(10, adminId);
+                    ps.setObject(11, now);
+                    ps.setObject(12, now);
+                });
+    }
+    
+    private void insertApplications(long firstStudentId, long firstJobId, long adminId, SplittableRandom random) {
+        int stride = coprimeStride(jobs);
+        LocalDateTime now = LocalDateTime.now();
+        batch("applications", applications,
+                "INSERT INTO applications (student_id, job_id, cover_letter, status, admin_notes, applied_at, reviewed_at, reviewed_by, id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, i) -> {
+                    int roll = random.nextInt(20);
+                    String status = roll < 6 ? "PENDING" : roll < 14 ? "APPROVED" : roll < 19 ? "REJECTED" : "WITHDRAWN";
+                    boolean reviewed = status.equals("APPROVED") || status.equals("REJECTED");
+                    LocalDateTime appliedAt = now.minusMinutes(random.nextInt(525_600));
+                    ps.setLong(1, firstStudentId + i % students);
+                    ps.setLong(2, firstJobId + jobIndex(i, students, jobs, stride));
+                    ps.setString(3, "I would like to be considered for this position.");
+                    ps.setString(4, status);
+                    ps.setString(5, reviewed ? "Reviewed" : null);
+                    ps.setObject(6, appliedAt);
+                    ps.setObject(7, reviewed ? appliedAt.plusDays(2) : null);
+                    if (reviewed) {
+                        ps.setLong(8, adminId);
+                    } else {
+                        ps.setNull(8, Types.BIGINT);
+                    }
+                });
+    }
+    
+    private void insertWorkHours(long firstStudentId, long firstJobId, long adminId, SplittableRandom random) {
+        int stride = coprimeStride(jobs);
+        LocalDate today = LocalDate.now();
+        batch("work_hours", workHours,
+                "INSERT INTO work_hours (student_id, job_id, work_date, start_time, end_time, hours_worked, description, " +
+                "status, supervisor_notes, approved_by, approved_at, created_at, id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, i) -> {
+                    // Each entry belongs to one of the generated student/job pairs
+                    long application = i % applications;
+                    int roll = random.nextInt(20);
+                    String status = roll < 16 ? "APPROVED" : roll < 19 ? "PENDING" : "REJECTED";
+                    LocalDate workDate = today.minusDays(random.nextInt(365));
+                    LocalTime start = LocalTime.of(7 + random.nextInt(10), random.nextInt(4) * 15);
+                    int minutes = 60 + random.nextInt(13) * 15;
+                    boolean reviewed = !status.equals("PENDING");
+                    ps.setLong(1, firstStudentId + application % students);
+                    ps.setLong(2, firstJobId + jobIndex(application, students, jobs, stride));
+                    ps.setObject(3, workDate);
+                    ps.setObject(4, start);
+                    ps.setObject(5, start.plusMinutes(minutes));
+                    ps.setBigDecimal(6, BigDecimal.valueOf(minutes * 100L / 60, 2));
+                    ps.setString(7, "Synthetic shift");
+                    ps.setString(8, status);
+                    ps.setString(9, reviewed ? "Reviewed" : null);
+                    if (reviewed) {
+                        ps.setLong(10, adminId);
+                        ps.setObject(11, workDate.plusDays(1).atTime(9, 0));
+                    } else {
+                        ps.setNull(10, Types.BIGINT);
+                        ps.setNull(11, Types.TIMESTAMP);
+                    }
+                    ps.setObject(12, workDate.atTime(start.plusMinutes(minutes)));
+                });
+    }
+    
+    /**
+     * Maps the i-th application to a job so that each (student, job) pair is unique:
+     * student i % students applies to its k-th job, stepping by a stride coprime to jobs.
+     */
+    private static int jobIndex(long i, int studentCount, int jobCount, int stride) {
+        long student = i % studentCount;
+        long k = i / studentCount;
+        return (int) ((student + k * stride) % jobCount);
+    }
+    
+    private static int coprimeStride(int jobCount) {
+        int stride = 7919;
+        while (gcd(stride, jobCount) != 1) {
+            stride += 2;
+        }
+        return stride;
+    }
+    
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+    
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, long index) throws SQLException;
+    }
+    
+    /**
+     * Inserts the rows in batches and returns the first ID used. IDs are assigned here,
+     * continuing after the table's highest ID, and bound to the statement's last parameter.
+     */
+    private long batch(String table, long rows, String sql, RowWriter writer) {
+        long started = System.currentTimeMillis();
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long firstId = maxId + 1;
+        int idParameter = (int) sql.chars().filter(c -> c == '?').count();
+        for (long from = 0; from < rows; from += batchSize) {
+            long to = Math.min(from + batchSize, rows);
+            List<Long> indexes = new ArrayList<>((int) (to - from));
+            for (long i = from; i < to; i++) {
+                indexes.add(i);
+            }
+            transactionTemplate.executeWithoutResult(tx ->
+                    jdbcTemplate.batchUpdate(sql, indexes, indexes.size(), (ps, i) -> {
+                        writer.write(ps, i);
+                        ps.setLong(idParameter, firstId + i);
+                    }));
+            if (to % (batchSize * 100L) == 0 || to == rows) {
+                logger.info("{}: {}/{} rows", table, to, rows);
+            }
+        }
+        logger.info("{}: {} rows in {} ms", table, rows, System.currentTimeMillis() - started);
+        return firstId;
+    }
+}
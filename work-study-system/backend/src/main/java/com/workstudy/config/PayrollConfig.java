@@ -0,0 +1,22 @@
+package com.workstudy.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class PayrollConfig {
+    
+    /**
+     * Pool for per-department payroll aggregation. Each task holds a database
+     * connection while its query runs, so the default stays well below the
+     * connection pool size.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool payrollPool(@Value("${payroll.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Math.min(Runtime.getRuntime().availableProcessors(), 4);
+        return new ForkJoinPool(threads);
+    }
+}
@@ -0,0 +1,61 @@
+package com.workstudy.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Charges each request to its client's bucket on the first matching route and answers
+ * 429 with Retry-After once the bucket is empty. Clients are told apart by
+ * {@code clientKey}, which returns null for requests this filter does not limit.
+ */
+class RateLimitFilter extends OncePerRequestFilter {
+    private final String name;
+    private final List<RateLimiter> limiters;
+    private final Function<HttpServletRequest, Object> clientKey;
+    
+    RateLimitFilter(String name, List<RateLimiter> limiters, Function<HttpServletRequest, Object> clientKey) {
+        this.name = name;
+        this.limiters = limiters;
+        this.clientKey = clientKey;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimiter limiter = limiterFor(request.getRequestURI());
+        Object client = limiter != null ? clientKey.apply(request) : null;
+        if (client != null) {
+            long waitNanos = limiter.tryAcquire(client, System.nanoTime());
+            if (waitNanos > 0) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader("Retry-After", Long.toString(Math.max(TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999), 1)));
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+    
+    // Both instances sit in the same chain, so each needs its own once-per-request marker
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return RateLimitFilter.class.getName() + "." + name + ALREADY_FILTERED_SUFFIX;
+    }
+    
+    private RateLimiter limiterFor(String path) {
+        for (RateLimiter limiter : limiters) {
+            if (limiter.matches(path)) {
+                return limiter;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.workstudy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Per-route request limits. A route's pattern is an exact path or a prefix ending
+ * in {@code /**}; the first route whose pattern matches and that has a limit for
+ * the kind of client applies. Each limit lets a client send {@code capacity}
+ * requests at once and refills evenly over {@code period}.
+ */
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("10m") Duration idleTimeout,
+                                  @DefaultValue List<Route> routes) {
+    
+    public record Route(String pattern, Limit perIp, Limit perUser) {
+    }
+    
+    public record Limit(int capacity, Duration period) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.workstudy.config;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets of one route, one per client. A bucket is a single AtomicLong holding
+ * the time at which it will be full again (the generic cell rate algorithm), so taking
+ * a token is a read of the clock and one compare-and-set, with no lock. Buckets live
+ * in a ConcurrentHashMap, whose bins spread clients across independent CAS slots;
+ * only the first request of a new client takes a bin lock to insert its bucket.
+ */
+class RateLimiter {
+    private final String prefix;
+    private final boolean exact;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Counter rejected;
+    private final Map<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    
+    RateLimiter(String pattern, RateLimitProperties.Limit limit, Counter rejected) {
+        this.exact = !pattern.endsWith("/**");
+        this.prefix = exact ? pattern : pattern.substring(0, pattern.length() - 3);
+        this.intervalNanos = limit.period().toNanos() / limit.capacity();
+        this.burstNanos = intervalNanos * limit.capacity();
+        this.rejected = rejected;
+    }
+    
+    boolean matches(String path) {
+        if (exact) {
+            return path.equals(prefix);
+        }
+        return path.startsWith(prefix)
+                && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+    }
+    
+    /**
+     * Takes a token from the client's bucket. Returns 0 when one was taken, otherwise
+     * how many nanoseconds until the next token is available.
+     */
+    long tryAcquire(Object client, long now) {
+        AtomicLong bucket = buckets.get(client);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(client, key -> new AtomicLong(now));
+        }
+        for (;;) {
+            long fullAt = bucket.get();
+            long next = (fullAt - now > 0 ? fullAt : now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * Drops buckets that have been full for longer than the idle timeout; a client
+     * coming back starts with a full bucket, exactly as if it had been kept.
+     */
+    void evictIdle(long now, long idleTimeoutNanos) {
+        buckets.values().removeIf(bucket -> now - bucket.get() > idleTimeoutNanos);
+    }
+    
+    int size() {
+        return buckets.size();
+    }
+}
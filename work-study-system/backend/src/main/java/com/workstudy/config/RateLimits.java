@@ -0,0 +1,75 @@
+package com.workstudy.config;
+
+import com.workstudy.security.UserDetailsImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the rate limiters from {@link RateLimitProperties} and the two filters that
+ * apply them: one ahead of token verification, keyed by client IP, and one after it,
+ * keyed by the authenticated user. Rejections are counted as
+ * workstudy.rate-limit.rejected, tagged with the route and the kind of client.
+ */
+@Component
+public class RateLimits {
+    private final List<RateLimiter> limiters = new ArrayList<>();
+    private final long idleTimeoutNanos;
+    private final RateLimitFilter clientIpFilter;
+    private final RateLimitFilter userFilter;
+    
+    public RateLimits(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.idleTimeoutNanos = properties.idleTimeout().toNanos();
+        List<RateLimiter> perIp = new ArrayList<>();
+        List<RateLimiter> perUser = new ArrayList<>();
+        if (properties.enabled()) {
+            for (RateLimitProperties.Route route : properties.routes()) {
+                if (route.perIp() != null) {
+                    perIp.add(limiter(route.pattern(), "ip", route.perIp(), meterRegistry));
+                }
+                if (route.perUser() != null) {
+                    perUser.add(limiter(route.pattern(), "user", route.perUser(), meterRegistry));
+                }
+            }
+        }
+        this.clientIpFilter = new RateLimitFilter("ip", perIp, HttpServletRequest::getRemoteAddr);
+        this.userFilter = new RateLimitFilter("user", perUser, request -> currentUserId());
+        meterRegistry.gauge("workstudy.rate-limit.buckets", limiters,
+                all -> all.stream().mapToInt(RateLimiter::size).sum());
+    }
+    
+    RateLimitFilter clientIpFilter() {
+        return clientIpFilter;
+    }
+    
+    RateLimitFilter userFilter() {
+        return userFilter;
+    }
+    
+    @Scheduled(fixedRateString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        limiters.forEach(limiter -> limiter.evictIdle(now, idleTimeoutNanos));
+    }
+    
+    private RateLimiter limiter(String pattern, String client, RateLimitProperties.Limit limit, MeterRegistry meterRegistry) {
+        RateLimiter limiter = new RateLimiter(pattern, limit,
+                meterRegistry.counter("workstudy.rate-limit.rejected", "route", pattern, "client", client));
+        limiters.add(limiter);
+        return limiter;
+    }
+    
+    private static Object currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
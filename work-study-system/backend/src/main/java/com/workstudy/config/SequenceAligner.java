@@ -0,0 +1,71 @@
+package com.workstudy.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves each entity's ID sequence past the highest existing ID. Needed once for databases
+ * whose rows were created with IDENTITY columns, and after bulk loads that assign IDs
+ * themselves. Sequences that are already ahead are left alone. On H2 and PostgreSQL the
+ * sequence's next value is read from the catalog, so a boot does not use up IDs; other
+ * databases fall back to calling nextval.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceAligner {
+    private static final Logger logger = LoggerFactory.getLogger(SequenceAligner.class);
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PostConstruct
+    public void align() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && persister instanceof AbstractEntityPersister entityPersister) {
+                String sequence = generator.getDatabaseStructure().getPhysicalName().render();
+                int incrementSize = generator.getDatabaseStructure().getIncrementSize();
+                align(dialect, sequence, incrementSize, entityPersister.getTableName(),
+                        entityPersister.getIdentifierColumnNames()[0]);
+            }
+        });
+    }
+    
+    private void align(Dialect dialect, String sequence, int incrementSize, String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        Long next = peekNextValue(dialect, sequence);
+        if (maxId != null && next != null && next <= maxId) {
+            // The pooled optimizer hands out the block ending at the value it reads
+            long restartWith = maxId + incrementSize;
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith);
+            logger.info("Sequence {} restarted at {} (max {}.{} = {})", sequence, restartWith, table, idColumn, maxId);
+        }
+    }
+    
+    // The value nextval would return next, without advancing the sequence where the database allows it
+    private Long peekNextValue(Dialect dialect, String sequence) {
+        if (dialect instanceof H2Dialect) {
+            return jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES " +
+                    "WHERE SEQUENCE_SCHEMA = SCHEMA() AND SEQUENCE_NAME = ?", Long.class, sequence.toUpperCase());
+        }
+        if (dialect instanceof PostgreSQLDialect) {
+            // last_value is null until the sequence is first used
+            return jdbcTemplate.queryForObject("SELECT COALESCE(last_value + increment_by, start_value) FROM pg_sequences " +
+                    "WHERE schemaname = current_schema() AND sequencename = ?", Long.class, sequence.toLowerCase());
+        }
+        return jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+    }
+}
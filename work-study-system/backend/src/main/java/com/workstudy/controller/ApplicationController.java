@@ -1,19 +1,27 @@
 package com.workstudy.controller;
 
+import com.workstudy.dto.CursorPage;
 import com.workstudy.dto.ApplicationRequest;
 import com.workstudy.dto.ApplicationStatusRequest;
+import com.workstudy.dto.ApplicationView;
+import com.workstudy.dto.ExportFormat;
 import com.workstudy.entity.Application;
 import com.workstudy.entity.User;
+import com.workstudy.security.UserDetailsImpl;
 import com.workstudy.service.ApplicationService;
+import com.workstudy.service.ExportService;
 import com.workstudy.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/applications")
@@ -22,56 +30,79 @@ import java.util.List;
 public class ApplicationController {
     private final ApplicationService applicationService;
     private final UserService userService;
+    private final ExportService exportService;
     
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Application>> getAllApplications() {
-        return ResponseEntity.ok(applicationService.findAll());
+    public ResponseEntity<CursorPage<ApplicationView>> getAllApplications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(applicationService.findAll(cursor, limit));
+    }
+    
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Application.Status status,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.attachment("applications"))
+                .body(out -> exportService.exportApplications(exportFormat, status, startDate, endDate, out));
     }
     
     @GetMapping("/my")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<List<Application>> getMyApplications(Authentication authentication) {
-        User student = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(applicationService.findByStudent(student.getId()));
+    public ResponseEntity<CursorPage<ApplicationView>> getMyApplications(
+            @AuthenticationPrincipal UserDetailsImpl principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(applicationService.findByStudent(principal.getId(), cursor, limit));
     }
     
     @GetMapping("/job/{jobId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Application>> getApplicationsByJob(@PathVariable Long jobId) {
-        return ResponseEntity.ok(applicationService.findByJob(jobId));
+    public ResponseEntity<CursorPage<ApplicationView>> getApplicationsByJob(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(applicationService.findByJob(jobId, cursor, limit));
     }
     
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Application>> getApplicationsByStatus(@PathVariable String status) {
-        return ResponseEntity.ok(applicationService.findByStatus(Application.Status.valueOf(status)));
+    public ResponseEntity<CursorPage<ApplicationView>> getApplicationsByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(applicationService.findByStatus(Application.Status.valueOf(status), cursor, limit));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Application> getApplicationById(@PathVariable Long id) {
-        return ResponseEntity.ok(applicationService.findById(id));
+    public ResponseEntity<ApplicationView> getApplicationById(@PathVariable Long id) {
+        return ResponseEntity.ok(applicationService.findViewById(id));
     }
     
     @PostMapping
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<Application> submitApplication(@Valid @RequestBody ApplicationRequest request, Authentication authentication) {
-        User student = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(applicationService.submitApplication(request, student));
+    public ResponseEntity<ApplicationView> submitApplication(@Valid @RequestBody ApplicationRequest request, @AuthenticationPrincipal UserDetailsImpl principal) {
+        return ResponseEntity.ok(applicationService.submitApplication(request, userService.getReference(principal.getId())));
     }
     
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Application> updateApplicationStatus(@PathVariable Long id, @Valid @RequestBody ApplicationStatusRequest request, Authentication authentication) {
+    public ResponseEntity<ApplicationView> updateApplicationStatus(@PathVariable Long id, @Valid @RequestBody ApplicationStatusRequest request, Authentication authentication) {
         User admin = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(applicationService.updateStatus(id, request, admin));
+        return ResponseEntity.ok(ApplicationView.from(applicationService.updateStatus(id, request, admin)));
     }
     
     @PatchMapping("/{id}/withdraw")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<?> withdrawApplication(@PathVariable Long id, Authentication authentication) {
-        User student = userService.findByUsername(authentication.getName());
-        applicationService.withdrawApplication(id, student);
+    public ResponseEntity<?> withdrawApplication(@PathVariable Long id, @AuthenticationPrincipal UserDetailsImpl principal) {
+        applicationService.withdrawApplication(id, principal.getId());
         return ResponseEntity.ok().build();
     }
 }
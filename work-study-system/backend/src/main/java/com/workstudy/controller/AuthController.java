@@ -2,12 +2,18 @@ package com.workstudy.controller;
 
 import com.workstudy.dto.LoginRequest;
 import com.workstudy.dto.LoginResponse;
+import com.workstudy.dto.RefreshRequest;
 import com.workstudy.dto.RegisterRequest;
+import com.workstudy.dto.UserView;
 import com.workstudy.entity.User;
+import com.workstudy.security.BoundedPasswordEncoder;
 import com.workstudy.security.JwtUtil;
+import com.workstudy.security.PasswordHashRejectedException;
 import com.workstudy.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,37 +29,64 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
     private final JwtUtil jwtUtil;
+    private final BoundedPasswordEncoder passwordEncoder;
     
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
+        passwordEncoder.checkCapacity();
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
         );
         
         SecurityContextHolder.getContext().setAuthentication(authentication);
         User user = userService.findByUsername(request.getUsername());
-        String token = jwtUtil.generateToken(user);
-        
-        return ResponseEntity.ok(new LoginResponse(token, user));
+        return ResponseEntity.ok(tokens(user));
     }
     
     @PostMapping("/register/student")
     public ResponseEntity<?> registerStudent(@Valid @RequestBody RegisterRequest request) {
         User user = userService.createStudent(request);
-        String token = jwtUtil.generateToken(user);
-        return ResponseEntity.ok(new LoginResponse(token, user));
+        return ResponseEntity.ok(tokens(user));
     }
     
     @PostMapping("/register/admin")
     public ResponseEntity<?> registerAdmin(@Valid @RequestBody RegisterRequest request) {
         User user = userService.createAdmin(request);
-        String token = jwtUtil.generateToken(user);
-        return ResponseEntity.ok(new LoginResponse(token, user));
+        return ResponseEntity.ok(tokens(user));
+    }
+    
+    /**
+     * Exchanges a refresh token for a new access and refresh token. Unlike other
+     * requests this reads the user, so deactivation and role changes apply here
+     * even on an instance that has not seen the new token epoch.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshRequest request) {
+        Claims claims = jwtUtil.parseToken(request.getRefreshToken())
+                .filter(JwtUtil::isRefreshToken)
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+        User user = userService.findById(claims.get("id", Long.class));
+        if (!Boolean.TRUE.equals(user.getActive()) || user.getTokenEpoch() != JwtUtil.epochOf(claims)) {
+            throw new RuntimeException("Refresh token has been revoked");
+        }
+        return ResponseEntity.ok(tokens(user));
+    }
+    
+    private LoginResponse tokens(User user) {
+        return new LoginResponse(jwtUtil.generateToken(user), jwtUtil.generateRefreshToken(user), UserView.from(user));
+    }
+    
+    // Login and registration shed load once the password-hash queue is full
+    @ExceptionHandler(PasswordHashRejectedException.class)
+    public ResponseEntity<?> hashQueueFull(PasswordHashRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(e.getMessage());
     }
     
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser(Authentication authentication) {
         User user = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok(UserView.from(user));
     }
 }
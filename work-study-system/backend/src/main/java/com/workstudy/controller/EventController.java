@@ -0,0 +1,28 @@
+package com.workstudy.controller;
+
+import com.workstudy.security.UserDetailsImpl;
+import com.workstudy.service.StatusEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class EventController {
+    private final StatusEventService statusEventService;
+    
+    /**
+     * Streams status changes of the caller's applications and work hours; admins
+     * receive every student's changes.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@AuthenticationPrincipal UserDetailsImpl principal) {
+        boolean admin = principal.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
+        return statusEventService.subscribe(principal.getId(), admin);
+    }
+}
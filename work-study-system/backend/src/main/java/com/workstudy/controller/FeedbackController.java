@@ -1,8 +1,10 @@
 package com.workstudy.controller;
 
+import com.workstudy.dto.CursorPage;
 import com.workstudy.dto.FeedbackRequest;
-import com.workstudy.entity.Feedback;
+import com.workstudy.dto.FeedbackView;
 import com.workstudy.entity.User;
+import com.workstudy.security.UserDetailsImpl;
 import com.workstudy.service.FeedbackService;
 import com.workstudy.service.UserService;
 import jakarta.validation.Valid;
@@ -10,10 +12,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/feedback")
 @RequiredArgsConstructor
@@ -24,39 +25,49 @@ public class FeedbackController {
     
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Feedback>> getAllFeedback() {
-        return ResponseEntity.ok(feedbackService.findAll());
+    public ResponseEntity<CursorPage<FeedbackView>> getAllFeedback(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(feedbackService.findAll(cursor, limit));
     }
     
     @GetMapping("/my")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<List<Feedback>> getMyFeedback(Authentication authentication) {
-        User student = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(feedbackService.findByStudent(student.getId()));
+    public ResponseEntity<CursorPage<FeedbackView>> getMyFeedback(
+            @AuthenticationPrincipal UserDetailsImpl principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(feedbackService.findByStudent(principal.getId(), cursor, limit));
     }
     
     @GetMapping("/student/{studentId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Feedback>> getFeedbackByStudent(@PathVariable Long studentId) {
-        return ResponseEntity.ok(feedbackService.findByStudent(studentId));
+    public ResponseEntity<CursorPage<FeedbackView>> getFeedbackByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(feedbackService.findByStudent(studentId, cursor, limit));
     }
     
     @GetMapping("/job/{jobId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Feedback>> getFeedbackByJob(@PathVariable Long jobId) {
-        return ResponseEntity.ok(feedbackService.findByJob(jobId));
+    public ResponseEntity<CursorPage<FeedbackView>> getFeedbackByJob(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(feedbackService.findByJob(jobId, cursor, limit));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Feedback> getFeedbackById(@PathVariable Long id) {
-        return ResponseEntity.ok(feedbackService.findById(id));
+    public ResponseEntity<FeedbackView> getFeedbackById(@PathVariable Long id) {
+        return ResponseEntity.ok(feedbackService.findViewById(id));
     }
     
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Feedback> createFeedback(@Valid @RequestBody FeedbackRequest request, Authentication authentication) {
+    public ResponseEntity<FeedbackView> createFeedback(@Valid @RequestBody FeedbackRequest request, Authentication authentication) {
         User admin = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(feedbackService.createFeedback(request, admin));
+        return ResponseEntity.ok(FeedbackView.from(feedbackService.createFeedback(request, admin)));
     }
     
     @DeleteMapping("/{id}")
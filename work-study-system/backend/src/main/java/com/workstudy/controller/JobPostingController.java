@@ -1,18 +1,31 @@
 package com.workstudy.controller;
 
+import com.workstudy.dto.CursorPage;
+import com.workstudy.dto.JobFacetResult;
 import com.workstudy.dto.JobPostingRequest;
+import com.workstudy.dto.JobPostingView;
 import com.workstudy.entity.JobPosting;
 import com.workstudy.entity.User;
+import com.workstudy.service.ActiveJobsCache;
+import com.workstudy.service.JobFacetIndex;
 import com.workstudy.service.JobPostingService;
 import com.workstudy.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -20,39 +33,86 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class JobPostingController {
     private final JobPostingService jobPostingService;
+    private final ActiveJobsCache activeJobsCache;
     private final UserService userService;
     
     @GetMapping
-    public ResponseEntity<List<JobPosting>> getAllJobs() {
-        return ResponseEntity.ok(jobPostingService.findAll());
+    public ResponseEntity<CursorPage<JobPostingView>> getAllJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(jobPostingService.findAll(cursor, limit));
     }
     
     @GetMapping("/active")
-    public ResponseEntity<List<JobPosting>> getActiveJobs() {
-        return ResponseEntity.ok(jobPostingService.findActiveJobs());
+    public ResponseEntity<byte[]> getActiveJobs(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        ActiveJobsCache.Snapshot snapshot = activeJobsCache.get();
+        boolean gzip = snapshot.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+        // Sets 304 and the ETag when the client's copy is current
+        if (request.checkNotModified(gzip ? snapshot.gzipEtag() : snapshot.etag())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<List<JobPostingView>> searchJobs(
+            @RequestParam String q,
+            @RequestParam(required = false) JobPosting.Status status,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(jobPostingService.search(q, status, limit));
+    }
+    
+    /**
+     * Facet values are passed as repeated parameters named after the facet, e.g.
+     * {@code ?department=Library&department=Physics&rate=15-18}.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<JobFacetResult> getActiveJobsByFacets(
+            @RequestParam MultiValueMap<String, String> params,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        Map<JobFacetIndex.Facet, Set<String>> selection = new EnumMap<>(JobFacetIndex.Facet.class);
+        for (JobFacetIndex.Facet facet : JobFacetIndex.Facet.values()) {
+            List<String> values = params.get(facet.key());
+            if (values != null) {
+                selection.put(facet, new HashSet<>(values));
+            }
+        }
+        return ResponseEntity.ok(jobPostingService.findActiveByFacets(selection, cursor, limit));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<JobPosting> getJobById(@PathVariable Long id) {
-        return ResponseEntity.ok(jobPostingService.findById(id));
+    public ResponseEntity<JobPostingView> getJobById(@PathVariable Long id) {
+        return ResponseEntity.ok(jobPostingService.findViewById(id));
     }
     
     @GetMapping("/department/{department}")
-    public ResponseEntity<List<JobPosting>> getJobsByDepartment(@PathVariable String department) {
-        return ResponseEntity.ok(jobPostingService.findByDepartment(department));
+    public ResponseEntity<CursorPage<JobPostingView>> getJobsByDepartment(
+            @PathVariable String department,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(jobPostingService.findByDepartment(department, cursor, limit));
     }
     
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<JobPosting> createJob(@Valid @RequestBody JobPostingRequest request, Authentication authentication) {
+    public ResponseEntity<JobPostingView> createJob(@Valid @RequestBody JobPostingRequest request, Authentication authentication) {
         User admin = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(jobPostingService.createJobPosting(request, admin));
+        return ResponseEntity.ok(JobPostingView.from(jobPostingService.createJobPosting(request, admin)));
     }
     
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<JobPosting> updateJob(@PathVariable Long id, @Valid @RequestBody JobPostingRequest request) {
-        return ResponseEntity.ok(jobPostingService.updateJobPosting(id, request));
+    public ResponseEntity<JobPostingView> updateJob(@PathVariable Long id, @Valid @RequestBody JobPostingRequest request) {
+        return ResponseEntity.ok(JobPostingView.from(jobPostingService.updateJobPosting(id, request)));
     }
     
     @PatchMapping("/{id}/close")
@@ -0,0 +1,68 @@
+package com.workstudy.controller;
+
+import com.workstudy.dto.CursorPage;
+import com.workstudy.dto.PayrollLineView;
+import com.workstudy.dto.PayrollRunRequest;
+import com.workstudy.dto.PayrollRunView;
+import com.workstudy.entity.User;
+import com.workstudy.service.PayrollService;
+import com.workstudy.service.UserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/payroll")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class PayrollController {
+    private final PayrollService payrollService;
+    private final UserService userService;
+    
+    @GetMapping("/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<PayrollRunView>> getRuns(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(payrollService.findAll(cursor, limit));
+    }
+    
+    @PostMapping("/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PayrollRunView> createRun(@Valid @RequestBody PayrollRunRequest request, Authentication authentication) {
+        User admin = userService.findByUsername(authentication.getName());
+        return ResponseEntity.ok(payrollService.createRun(request, admin));
+    }
+    
+    @GetMapping("/runs/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PayrollRunView> getRun(@PathVariable Long id) {
+        return ResponseEntity.ok(payrollService.findById(id));
+    }
+    
+    @GetMapping("/runs/{id}/lines")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<PayrollLineView>> getLines(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(payrollService.findLines(id, cursor, limit));
+    }
+    
+    @GetMapping("/runs/{id}/students/{studentId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<PayrollLineView>> getStudentLines(@PathVariable Long id, @PathVariable Long studentId) {
+        return ResponseEntity.ok(payrollService.findStudentLines(id, studentId));
+    }
+    
+    @PostMapping("/runs/{id}/students/{studentId}/recompute")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<PayrollLineView>> recomputeStudent(@PathVariable Long id, @PathVariable Long studentId) {
+        return ResponseEntity.ok(payrollService.recomputeStudent(id, studentId));
+    }
+}
@@ -0,0 +1,22 @@
+package com.workstudy.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Writes a {@link ResponseStatusException} straight to the response. Left to the
+ * default resolver it would go through an error dispatch, which the security
+ * chain answers with 403 for a stateless request, hiding the real status.
+ */
+@RestControllerAdvice
+public class ResponseStatusExceptionHandler {
+    
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<?> responseStatus(ResponseStatusException e) {
+        return ResponseEntity.status(e.getStatusCode())
+                .headers(e.getHeaders())
+                .body(e.getReason());
+    }
+}
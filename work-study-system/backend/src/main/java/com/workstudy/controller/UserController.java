@@ -0,0 +1,36 @@
+package com.workstudy.controller;
+
+import com.workstudy.dto.UserRoleRequest;
+import com.workstudy.dto.UserView;
+import com.workstudy.service.UserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class UserController {
+    private final UserService userService;
+    
+    /**
+     * Deactivates the account and revokes its tokens at once.
+     */
+    @PatchMapping("/{id}/deactivate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserView> deactivateUser(@PathVariable Long id) {
+        return ResponseEntity.ok(UserView.from(userService.deactivateUser(id)));
+    }
+    
+    /**
+     * Changes the user's role and revokes their tokens, which carry the old role.
+     */
+    @PatchMapping("/{id}/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserView> changeRole(@PathVariable Long id, @Valid @RequestBody UserRoleRequest request) {
+        return ResponseEntity.ok(UserView.from(userService.changeRole(id, request.getRole())));
+    }
+}
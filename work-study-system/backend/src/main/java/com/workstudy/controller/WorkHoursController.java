@@ -1,21 +1,47 @@
 package com.workstudy.controller;
 
+import com.workstudy.dto.CursorPage;
+import com.workstudy.dto.ExportFormat;
+import com.workstudy.dto.StudentHoursTotal;
+import com.workstudy.dto.WorkHoursBatchResult;
+import com.workstudy.dto.WorkHoursBatchStatusRequest;
+import com.workstudy.dto.WorkHoursImportEvent;
+import com.workstudy.dto.WorkHoursOverlapReport;
 import com.workstudy.dto.WorkHoursRequest;
 import com.workstudy.dto.WorkHoursStatusRequest;
+import com.workstudy.dto.WorkHoursTotalsRequest;
+import com.workstudy.dto.WorkHoursView;
 import com.workstudy.entity.User;
 import com.workstudy.entity.WorkHours;
+import com.workstudy.security.UserDetailsImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workstudy.service.ExportService;
 import com.workstudy.service.UserService;
+import com.workstudy.service.WorkHoursImportService;
 import com.workstudy.service.WorkHoursService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/workhours")
@@ -24,35 +50,67 @@ import java.util.List;
 public class WorkHoursController {
     private final WorkHoursService workHoursService;
     private final UserService userService;
+    private final WorkHoursImportService workHoursImportService;
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
     
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<WorkHours>> getAllWorkHours() {
-        return ResponseEntity.ok(workHoursService.findAll());
+    public ResponseEntity<CursorPage<WorkHoursView>> getAllWorkHours(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(workHoursService.findAll(cursor, limit));
+    }
+    
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportWorkHours(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) WorkHours.Status status,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.attachment("work-hours"))
+                .body(out -> exportService.exportWorkHours(exportFormat, status, startDate, endDate, out));
+    }
+    
+    @GetMapping("/overlaps")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<WorkHoursOverlapReport> findOverlaps(@RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(workHoursService.findOverlaps(Math.max(1, Math.min(limit, 10_000))));
     }
     
     @GetMapping("/my")
-    public ResponseEntity<List<WorkHours>> getMyWorkHours(Authentication authentication) {
-        User student = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(workHoursService.findByStudent(student.getId()));
+    public ResponseEntity<CursorPage<WorkHoursView>> getMyWorkHours(
+            @AuthenticationPrincipal UserDetailsImpl principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(workHoursService.findByStudent(principal.getId(), cursor, limit));
     }
     
     @GetMapping("/student/{studentId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<WorkHours>> getWorkHoursByStudent(@PathVariable Long studentId) {
-        return ResponseEntity.ok(workHoursService.findByStudent(studentId));
+    public ResponseEntity<CursorPage<WorkHoursView>> getWorkHoursByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(workHoursService.findByStudent(studentId, cursor, limit));
     }
     
     @GetMapping("/job/{jobId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<WorkHours>> getWorkHoursByJob(@PathVariable Long jobId) {
-        return ResponseEntity.ok(workHoursService.findByJob(jobId));
+    public ResponseEntity<CursorPage<WorkHoursView>> getWorkHoursByJob(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(workHoursService.findByJob(jobId, cursor, limit));
     }
     
     @GetMapping("/my/total")
-    public ResponseEntity<BigDecimal> getMyTotalHours(Authentication authentication) {
-        User student = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(workHoursService.getTotalHoursForStudent(student.getId()));
+    public ResponseEntity<BigDecimal> getMyTotalHours(@AuthenticationPrincipal UserDetailsImpl principal) {
+        return ResponseEntity.ok(workHoursService.getTotalHoursForStudent(principal.getId()));
     }
     
     @GetMapping("/student/{studentId}/total")
@@ -61,33 +119,86 @@ public class WorkHoursController {
         return ResponseEntity.ok(workHoursService.getTotalHoursForStudent(studentId));
     }
     
+    @PostMapping("/totals")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<StudentHoursTotal>> getTotalHoursForStudents(@Valid @RequestBody WorkHoursTotalsRequest request) {
+        return ResponseEntity.ok(workHoursService.getTotalHoursForStudents(request.getStudentIds()));
+    }
+    
+    @GetMapping("/my/summary")
+    public ResponseEntity<Map<String, Object>> getMyHoursSummary(
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @AuthenticationPrincipal UserDetailsImpl principal) {
+        return ResponseEntity.ok(getHoursSummary(principal.getId(), startDate, endDate));
+    }
+    
+    @GetMapping("/student/{studentId}/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getStudentHoursSummary(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate) {
+        return ResponseEntity.ok(getHoursSummary(studentId, startDate, endDate));
+    }
+    
     @GetMapping("/my/range")
-    public ResponseEntity<List<WorkHours>> getMyWorkHoursByDateRange(
+    public ResponseEntity<List<WorkHoursView>> getMyWorkHoursByDateRange(
             @RequestParam LocalDate startDate,
             @RequestParam LocalDate endDate,
-            Authentication authentication) {
-        User student = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(workHoursService.findByDateRange(student.getId(), startDate, endDate));
+            @AuthenticationPrincipal UserDetailsImpl principal) {
+        return ResponseEntity.ok(workHoursService.findByDateRange(principal.getId(), startDate, endDate));
     }
     
     @PostMapping
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<WorkHours> logWorkHours(@Valid @RequestBody WorkHoursRequest request, Authentication authentication) {
+    public ResponseEntity<WorkHoursView> logWorkHours(@Valid @RequestBody WorkHoursRequest request, Authentication authentication) {
         User student = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(workHoursService.logWorkHours(request, student));
+        return ResponseEntity.ok(WorkHoursView.from(workHoursService.logWorkHours(request, student)));
     }
     
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<WorkHours> updateWorkHoursStatus(@PathVariable Long id, @Valid @RequestBody WorkHoursStatusRequest request, Authentication authentication) {
+    public ResponseEntity<WorkHoursView> updateWorkHoursStatus(@PathVariable Long id, @Valid @RequestBody WorkHoursStatusRequest request, Authentication authentication) {
         User admin = userService.findByUsername(authentication.getName());
-        return ResponseEntity.ok(workHoursService.updateStatus(id, request, admin));
+        return ResponseEntity.ok(WorkHoursView.from(workHoursService.updateStatus(id, request, admin)));
+    }
+    
+    @PatchMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<WorkHoursBatchResult> updateWorkHoursStatuses(@Valid @RequestBody WorkHoursBatchStatusRequest request, Authentication authentication) {
+        User admin = userService.findByUsername(authentication.getName());
+        return ResponseEntity.ok(workHoursService.updateStatuses(request, admin));
+    }
+    
+    /**
+     * Imports a CSV timesheet sent as the request body. The response is streamed as
+     * NDJSON: one line per rejected row, a progress line after each committed chunk,
+     * and a final COMPLETED or ABORTED summary.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importWorkHours(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        Writer out = response.getWriter();
+        workHoursImportService.importCsv(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8), event -> {
+            try {
+                out.write(objectMapper.writeValueAsString(event));
+                out.write('\n');
+                if (event.type() != WorkHoursImportEvent.Type.ERROR) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
     
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<WorkHours> updateWorkHours(@PathVariable Long id, @Valid @RequestBody WorkHoursRequest request) {
-        return ResponseEntity.ok(workHoursService.updateWorkHours(id, request));
+    public ResponseEntity<WorkHoursView> updateWorkHours(@PathVariable Long id, @Valid @RequestBody WorkHoursRequest request) {
+        return ResponseEntity.ok(WorkHoursView.from(workHoursService.updateWorkHours(id, request)));
     }
     
     @DeleteMapping("/{id}")
@@ -96,4 +207,10 @@ public class WorkHoursController {
         workHoursService.deleteWorkHours(id);
         return ResponseEntity.ok().build();
     }
+    
+    private Map<String, Object> getHoursSummary(Long studentId, LocalDate startDate, LocalDate endDate) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusWeeks(12).with(DayOfWeek.MONDAY);
+        return workHoursService.getHoursSummary(studentId, start, end);
+    }
 }
@@ -0,0 +1,117 @@
+package com.workstudy.csv;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV one record at a time, so input of any size is parsed with
+ * a single record in memory. Quoted fields may contain commas, doubled quotes
+ * and line breaks; blank lines are skipped.
+ */
+public class CsvReader implements Closeable {
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+    
+    private final BufferedReader in;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private long recordLine;
+    private int pushedBack = -2;
+    
+    public CsvReader(Reader reader) {
+        this.in = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+    
+    /**
+     * Returns the next record, or {@code null} at the end of the input.
+     */
+    public List<String> next() throws IOException {
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        recordLine = line;
+        int length = 0;
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        int c;
+        while ((c = read()) != -1) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new RuntimeException("CSV record on line " + recordLine + " is longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                fieldStarted = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') unread(following);
+                }
+                line++;
+                if (record.isEmpty() && field.isEmpty() && !fieldStarted) {
+                    recordLine = line;
+                    length = 0;
+                    continue;
+                }
+                record.add(field.toString());
+                return record;
+            } else if (c == '﻿' && line == 1 && record.isEmpty() && field.isEmpty()) {
+                length--;
+            } else {
+                field.append((char) c);
+                fieldStarted = true;
+            }
+        }
+        if (quoted) {
+            throw new RuntimeException("Unterminated quoted field in CSV record on line " + recordLine);
+        }
+        if (record.isEmpty() && !fieldStarted) {
+            return null;
+        }
+        record.add(field.toString());
+        return record;
+    }
+    
+    /**
+     * The line on which the record last returned by {@link #next()} starts.
+     */
+    public long getLine() {
+        return recordLine;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+    
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return in.read();
+    }
+    
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
@@ -0,0 +1,39 @@
+package com.workstudy.csv;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes RFC 4180 CSV records, quoting only the values that need it.
+ */
+public class CsvWriter {
+    private final Writer out;
+    
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+    
+    public void write(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writeValue(value.toString());
+            }
+        }
+        out.write("\r\n");
+    }
+    
+    private void writeValue(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,57 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.Application;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for applications. The flat constructor is the target of the
+ * JPQL constructor expressions in ApplicationRepository.
+ */
+public record ApplicationView(
+        Long id,
+        Student student,
+        Job job,
+        String coverLetter,
+        String resumeUrl,
+        Application.Status status,
+        String adminNotes,
+        LocalDateTime appliedAt,
+        LocalDateTime reviewedAt,
+        UserSummary reviewedBy
+) {
+    
+    public record Student(Long id, String fullName, String email, String department) {
+        static Student from(User user) {
+            return new Student(user.getId(), user.getFullName(), user.getEmail(), user.getDepartment());
+        }
+    }
+    
+    public record Job(Long id, String title, String department) {
+        static Job from(JobPosting job) {
+            return new Job(job.getId(), job.getTitle(), job.getDepartment());
+        }
+    }
+    
+    public ApplicationView(Long id, Long studentId, String studentName, String studentEmail, String studentDepartment,
+                           Long jobId, String jobTitle, String jobDepartment, String coverLetter, String resumeUrl,
+                           Application.Status status, String adminNotes, LocalDateTime appliedAt,
+                           LocalDateTime reviewedAt, Long reviewedById, String reviewedByName) {
+        this(id, new Student(studentId, studentName, studentEmail, studentDepartment),
+                new Job(jobId, jobTitle, jobDepartment), coverLetter, resumeUrl, status, adminNotes,
+                appliedAt, reviewedAt, UserSummary.of(reviewedById, reviewedByName));
+    }
+    
+    public static ApplicationView from(Application application) {
+        return from(application, Job.from(application.getJob()));
+    }
+    
+    public static ApplicationView from(Application application, Job job) {
+        return new ApplicationView(application.getId(), Student.from(application.getStudent()),
+                job, application.getCoverLetter(), application.getResumeUrl(),
+                application.getStatus(), application.getAdminNotes(), application.getAppliedAt(),
+                application.getReviewedAt(), UserSummary.from(application.getReviewedBy()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.workstudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyHoursTotal {
+    private LocalDate workDate;
+    private BigDecimal totalHours;
+    private Long entries;
+}
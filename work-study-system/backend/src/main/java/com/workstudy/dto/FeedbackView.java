@@ -0,0 +1,34 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.Feedback;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for feedback. The flat constructor is the target of the
+ * JPQL constructor expressions in FeedbackRepository.
+ */
+public record FeedbackView(
+        Long id,
+        UserSummary student,
+        JobSummary job,
+        UserSummary givenBy,
+        Integer rating,
+        String comments,
+        String performanceAreas,
+        LocalDateTime createdAt
+) {
+    
+    public FeedbackView(Long id, Long studentId, String studentName, Long jobId, String jobTitle,
+                        Long givenById, String givenByName, Integer rating, String comments,
+                        String performanceAreas, LocalDateTime createdAt) {
+        this(id, new UserSummary(studentId, studentName), new JobSummary(jobId, jobTitle),
+                new UserSummary(givenById, givenByName), rating, comments, performanceAreas, createdAt);
+    }
+    
+    public static FeedbackView from(Feedback feedback) {
+        return new FeedbackView(feedback.getId(), UserSummary.from(feedback.getStudent()),
+                JobSummary.from(feedback.getJob()), UserSummary.from(feedback.getGivenBy()), feedback.getRating(),
+                feedback.getComments(), feedback.getPerformanceAreas(), feedback.getCreatedAt());
+    }
+}
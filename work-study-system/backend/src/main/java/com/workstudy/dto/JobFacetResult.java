@@ -0,0 +1,16 @@
+package com.workstudy.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of active job postings matching a facet filter, newest first, with
+ * the number of matches and the counts for every facet value. {@code next} works
+ * like the cursor of {@link CursorPage}.
+ */
+public record JobFacetResult(long total, List<JobPostingView> items, String next,
+                             Map<String, List<FacetCount>> facets) {
+    
+    public record FacetCount(String value, long count) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.workstudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobHoursTotal {
+    private Long jobId;
+    private String jobTitle;
+    private BigDecimal totalHours;
+    private Long entries;
+}
@@ -0,0 +1,9 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.JobPosting;
+
+/**
+ * The few job columns needed to accept an application, read without the posting's associations.
+ */
+public record JobPostingStatus(Long id, String title, String department, JobPosting.Status status) {
+}
@@ -0,0 +1,45 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.JobPosting;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read model for job postings. The flat constructor is the target of the
+ * JPQL constructor expressions in JobPostingRepository.
+ */
+public record JobPostingView(
+        Long id,
+        String title,
+        String description,
+        String department,
+        String location,
+        BigDecimal hourlyRate,
+        Integer maxHoursPerWeek,
+        Integer totalPositions,
+        Integer filledPositions,
+        LocalDate applicationDeadline,
+        JobPosting.Status status,
+        UserSummary postedBy,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    
+    public JobPostingView(Long id, String title, String description, String department, String location,
+                          BigDecimal hourlyRate, Integer maxHoursPerWeek, Integer totalPositions,
+                          Integer filledPositions, LocalDate applicationDeadline, JobPosting.Status status,
+                          Long postedById, String postedByName, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, description, department, location, hourlyRate, maxHoursPerWeek, totalPositions,
+                filledPositions, applicationDeadline, status, UserSummary.of(postedById, postedByName),
+                createdAt, updatedAt);
+    }
+    
+    public static JobPostingView from(JobPosting job) {
+        return new JobPostingView(job.getId(), job.getTitle(), job.getDescription(), job.getDepartment(),
+                job.getLocation(), job.getHourlyRate(), job.getMaxHoursPerWeek(), job.getTotalPositions(),
+                job.getFilledPositions(), job.getApplicationDeadline(), job.getStatus(),
+                UserSummary.from(job.getPostedBy()), job.getCreatedAt(), job.getUpdatedAt());
+    }
+}
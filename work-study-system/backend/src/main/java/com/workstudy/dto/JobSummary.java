@@ -0,0 +1,13 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.JobPosting;
+
+/**
+ * Minimal reference to a job posting embedded in other read models.
+ */
+public record JobSummary(Long id, String title) {
+    
+    public static JobSummary from(JobPosting job) {
+        return new JobSummary(job.getId(), job.getTitle());
+    }
+}
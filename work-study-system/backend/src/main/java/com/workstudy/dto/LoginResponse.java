@@ -1,6 +1,5 @@
 package com.workstudy.dto;
 
-import com.workstudy.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -8,5 +7,6 @@ import lombok.Data;
 @AllArgsConstructor
 public class LoginResponse {
     private String token;
-    private User user;
+    private String refreshToken;
+    private UserView user;
 }
@@ -0,0 +1,9 @@
+package com.workstudy.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Approved hours of one student on one job within a pay period, summed by the database.
+ */
+public record PayrollAggregate(Long studentId, Long jobId, String department, BigDecimal hourlyRate, BigDecimal hours) {
+}
@@ -0,0 +1,29 @@
+package com.workstudy.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read model for payroll lines. The flat constructor is the target of the
+ * JPQL constructor expressions in PayrollLineRepository.
+ */
+public record PayrollLineView(
+        Long id,
+        Long runId,
+        UserSummary student,
+        JobSummary job,
+        String department,
+        BigDecimal hours,
+        BigDecimal hourlyRate,
+        BigDecimal grossPay,
+        Integer revision,
+        LocalDateTime computedAt
+) {
+    
+    public PayrollLineView(Long id, Long runId, Long studentId, String studentName, Long jobId, String jobTitle,
+                           String department, BigDecimal hours, BigDecimal hourlyRate, BigDecimal grossPay,
+                           Integer revision, LocalDateTime computedAt) {
+        this(id, runId, new UserSummary(studentId, studentName), new JobSummary(jobId, jobTitle), department,
+                hours, hourlyRate, grossPay, revision, computedAt);
+    }
+}
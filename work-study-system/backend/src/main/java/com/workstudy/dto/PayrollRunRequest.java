@@ -0,0 +1,23 @@
+package com.workstudy.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+@Data
+public class PayrollRunRequest {
+    @NotNull
+    private LocalDate periodStart;
+    
+    @NotNull
+    private LocalDate periodEnd;
+    
+    @AssertTrue(message = "periodEnd must not be before periodStart, and a pay period may span at most 366 days")
+    public boolean isPeriodValid() {
+        return periodStart == null || periodEnd == null
+                || (!periodEnd.isBefore(periodStart) && ChronoUnit.DAYS.between(periodStart, periodEnd) < 366);
+    }
+}
@@ -0,0 +1,43 @@
+package com.workstudy.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.workstudy.entity.PayrollRun;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A payroll run with the totals of its original computation. {@code current}
+ * reflects later per-student recomputations and is only filled in for a single run.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PayrollRunView(
+        Long id,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        UserSummary createdBy,
+        LocalDateTime createdAt,
+        Long durationMillis,
+        PayrollTotals computed,
+        PayrollTotals current
+) {
+    
+    public PayrollRunView(Long id, LocalDate periodStart, LocalDate periodEnd, Long createdById, String createdByName,
+                          LocalDateTime createdAt, Long durationMillis, Long studentCount, Long lineCount,
+                          BigDecimal totalHours, BigDecimal totalGross) {
+        this(id, periodStart, periodEnd, new UserSummary(createdById, createdByName), createdAt, durationMillis,
+                new PayrollTotals(studentCount, lineCount, totalHours, totalGross), null);
+    }
+    
+    public static PayrollRunView from(PayrollRun run, UserSummary createdBy) {
+        return new PayrollRunView(run.getId(), run.getPeriodStart(), run.getPeriodEnd(), createdBy,
+                run.getCreatedAt(), run.getDurationMillis(),
+                new PayrollTotals(run.getStudentCount(), run.getLineCount(), run.getTotalHours(), run.getTotalGross()),
+                null);
+    }
+    
+    public PayrollRunView withCurrent(PayrollTotals current) {
+        return new PayrollRunView(id, periodStart, periodEnd, createdBy, createdAt, durationMillis, computed, current);
+    }
+}
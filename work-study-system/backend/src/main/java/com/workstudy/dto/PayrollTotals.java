@@ -0,0 +1,6 @@
+package com.workstudy.dto;
+
+import java.math.BigDecimal;
+
+public record PayrollTotals(Long studentCount, Long lineCount, BigDecimal totalHours, BigDecimal totalGross) {
+}
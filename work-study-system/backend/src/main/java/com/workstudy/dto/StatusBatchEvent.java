@@ -0,0 +1,12 @@
+package com.workstudy.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Several entries moved to the same status at once, as by a bulk approval; sent
+ * as one event so a burst does not overflow subscribers' buffers.
+ */
+public record StatusBatchEvent(StatusChangeEvent.Subject subject, List<Long> ids, String status,
+                               LocalDateTime changedAt) {
+}
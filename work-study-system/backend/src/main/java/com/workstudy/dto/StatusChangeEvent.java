@@ -0,0 +1,15 @@
+package com.workstudy.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A status change of an application or a work-hour entry, pushed to the student
+ * it belongs to and to admins over {@code /api/events}.
+ */
+public record StatusChangeEvent(Subject subject, Long id, Long studentId, String status, String previousStatus,
+                                LocalDateTime changedAt) {
+    
+    public enum Subject {
+        APPLICATION, WORK_HOURS
+    }
+}
@@ -0,0 +1,17 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.WorkHours;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusHoursTotal {
+    private WorkHours.Status status;
+    private BigDecimal totalHours;
+    private Long entries;
+}
@@ -0,0 +1,16 @@
+package com.workstudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentHoursTotal {
+    private Long studentId;
+    private BigDecimal totalHours;
+    private Long entries;
+}
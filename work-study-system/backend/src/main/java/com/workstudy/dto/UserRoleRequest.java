@@ -0,0 +1,11 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.User;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class UserRoleRequest {
+    @NotNull
+    private User.Role role;
+}
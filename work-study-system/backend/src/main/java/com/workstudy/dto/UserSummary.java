@@ -0,0 +1,17 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.User;
+
+/**
+ * Minimal reference to a user embedded in other read models.
+ */
+public record UserSummary(Long id, String fullName) {
+    
+    public static UserSummary from(User user) {
+        return user == null ? null : new UserSummary(user.getId(), user.getFullName());
+    }
+    
+    static UserSummary of(Long id, String fullName) {
+        return id == null ? null : new UserSummary(id, fullName);
+    }
+}
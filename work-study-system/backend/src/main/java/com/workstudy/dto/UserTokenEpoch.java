@@ -0,0 +1,4 @@
+package com.workstudy.dto;
+
+public record UserTokenEpoch(Long id, int epoch) {
+}
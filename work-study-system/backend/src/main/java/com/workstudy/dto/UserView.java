@@ -0,0 +1,23 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.User;
+
+/**
+ * Account details returned to the signed-in user. Never carries the password hash.
+ */
+public record UserView(
+        Long id,
+        String username,
+        String email,
+        String fullName,
+        User.Role role,
+        String phone,
+        String department,
+        Boolean active
+) {
+    
+    public static UserView from(User user) {
+        return new UserView(user.getId(), user.getUsername(), user.getEmail(), user.getFullName(),
+                user.getRole(), user.getPhone(), user.getDepartment(), user.getActive());
+    }
+}
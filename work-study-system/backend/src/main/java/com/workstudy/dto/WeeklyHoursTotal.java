@@ -0,0 +1,19 @@
+package com.workstudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyHoursTotal {
+    private Integer weekBasedYear;
+    private Integer week;
+    private LocalDate weekStart;
+    private BigDecimal totalHours;
+    private Long entries;
+}
@@ -0,0 +1,35 @@
+package com.workstudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class WorkHoursBatchResult {
+    private int updated;
+    private int failed;
+    private List<Item> items = new ArrayList<>();
+    
+    public void addUpdated(Long id) {
+        updated++;
+        items.add(new Item(id, true, null));
+    }
+    
+    public void addFailed(Long id, String message) {
+        failed++;
+        items.add(new Item(id, false, message));
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private boolean success;
+        private String message;
+    }
+}
@@ -0,0 +1,34 @@
+package com.workstudy.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Changes the status of many work-hour entries at once. Entries are selected
+ * either by explicit IDs or by a filter of job, work-date range and current status.
+ */
+@Data
+public class WorkHoursBatchStatusRequest {
+    @NotBlank
+    private String status;
+    
+    private String supervisorNotes;
+    
+    private List<Long> ids;
+    
+    private Long jobId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String currentStatus = "PENDING";
+    
+    @AssertTrue(message = "Either ids or jobId with startDate and endDate is required")
+    public boolean isSelectionValid() {
+        boolean byIds = ids != null && !ids.isEmpty();
+        boolean byFilter = jobId != null && startDate != null && endDate != null;
+        return byIds != byFilter;
+    }
+}
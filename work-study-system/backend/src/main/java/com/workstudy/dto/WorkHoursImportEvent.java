@@ -0,0 +1,27 @@
+package com.workstudy.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of the NDJSON stream returned by a timesheet import: a rejected row,
+ * a progress update after each committed chunk, or the final summary.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WorkHoursImportEvent(Type type, Long line, String message, Long rowsRead, Long imported, Long failed) {
+    
+    public enum Type {
+        ERROR, PROGRESS, COMPLETED, ABORTED
+    }
+    
+    public static WorkHoursImportEvent error(long line, String message) {
+        return new WorkHoursImportEvent(Type.ERROR, line, message, null, null, null);
+    }
+    
+    public static WorkHoursImportEvent progress(Type type, long rowsRead, long imported, long failed) {
+        return new WorkHoursImportEvent(type, null, null, rowsRead, imported, failed);
+    }
+    
+    public WorkHoursImportEvent withMessage(String message) {
+        return new WorkHoursImportEvent(type, line, message, rowsRead, imported, failed);
+    }
+}
@@ -0,0 +1,22 @@
+package com.workstudy.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of scanning all work hours for overlapping shifts. Each overlap pairs an
+ * entry with an earlier-starting entry of the same student and day that it overlaps.
+ */
+@Data
+public class WorkHoursOverlapReport {
+    private long scanned;
+    private boolean truncated;
+    private List<Overlap> overlaps = new ArrayList<>();
+    // Entries that end before they start, which cannot be checked for overlaps
+    private List<WorkHoursShift> reversed = new ArrayList<>();
+    
+    public record Overlap(WorkHoursShift first, WorkHoursShift second) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.workstudy.dto;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
@@ -21,4 +22,9 @@ public class WorkHoursRequest {
     private LocalTime endTime;
     
     private String description;
+    
+    @AssertTrue(message = "endTime must be after startTime")
+    public boolean isShiftValid() {
+        return startTime == null || endTime == null || endTime.isAfter(startTime);
+    }
 }
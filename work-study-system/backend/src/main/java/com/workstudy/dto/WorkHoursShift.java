@@ -0,0 +1,14 @@
+package com.workstudy.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * The time range of a work-hour entry, as read for overlap checks.
+ */
+public record WorkHoursShift(Long id, Long studentId, Long jobId, LocalDate workDate, LocalTime startTime, LocalTime endTime) {
+    
+    public boolean overlaps(LocalTime start, LocalTime end) {
+        return startTime.isBefore(end) && start.isBefore(endTime);
+    }
+}
@@ -0,0 +1,11 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.WorkHours;
+
+import java.math.BigDecimal;
+
+/**
+ * The columns of a work-hour entry that a status change depends on.
+ */
+public record WorkHoursStatusSnapshot(Long id, WorkHours.Status status, BigDecimal hoursWorked, Long studentId) {
+}
@@ -0,0 +1,12 @@
+package com.workstudy.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class WorkHoursTotalsRequest {
+    @NotEmpty
+    private List<Long> studentIds;
+}
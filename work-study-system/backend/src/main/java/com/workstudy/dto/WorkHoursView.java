@@ -0,0 +1,46 @@
+package com.workstudy.dto;
+
+import com.workstudy.entity.WorkHours;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Read model for work-hour entries. The flat constructor is the target of the
+ * JPQL constructor expressions in WorkHoursRepository.
+ */
+public record WorkHoursView(
+        Long id,
+        UserSummary student,
+        JobSummary job,
+        LocalDate workDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        BigDecimal hoursWorked,
+        String description,
+        WorkHours.Status status,
+        String supervisorNotes,
+        UserSummary approvedBy,
+        LocalDateTime approvedAt,
+        LocalDateTime createdAt
+) {
+    
+    public WorkHoursView(Long id, Long studentId, String studentName, Long jobId, String jobTitle,
+                         LocalDate workDate, LocalTime startTime, LocalTime endTime, BigDecimal hoursWorked,
+                         String description, WorkHours.Status status, String supervisorNotes,
+                         Long approvedById, String approvedByName, LocalDateTime approvedAt, LocalDateTime createdAt) {
+        this(id, new UserSummary(studentId, studentName), new JobSummary(jobId, jobTitle), workDate, startTime,
+                endTime, hoursWorked, description, status, supervisorNotes,
+                UserSummary.of(approvedById, approvedByName), approvedAt, createdAt);
+    }
+    
+    public static WorkHoursView from(WorkHours workHours) {
+        return new WorkHoursView(workHours.getId(), UserSummary.from(workHours.getStudent()),
+                JobSummary.from(workHours.getJob()), workHours.getWorkDate(), workHours.getStartTime(),
+                workHours.getEndTime(), workHours.getHoursWorked(), workHours.getDescription(),
+                workHours.getStatus(), workHours.getSupervisorNotes(), UserSummary.from(workHours.getApprovedBy()),
+                workHours.getApprovedAt(), workHours.getCreatedAt());
+    }
+}
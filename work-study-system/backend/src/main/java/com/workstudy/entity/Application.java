@@ -8,13 +8,20 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_applications_student_job", columnNames = {"student_id", "job_id"})
+}, indexes = {
+        @Index(name = "idx_applications_student_id", columnList = "student_id, id"),
+        @Index(name = "idx_applications_job_id", columnList = "job_id, id"),
+        @Index(name = "idx_applications_status_id", columnList = "status, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Application {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
@@ -10,13 +10,16 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_postings")
+@Table(name = "job_postings", indexes = {
+        @Index(name = "idx_job_postings_department_id", columnList = "department, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobPosting {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_postings_seq")
+    @SequenceGenerator(name = "job_postings_seq", sequenceName = "job_postings_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
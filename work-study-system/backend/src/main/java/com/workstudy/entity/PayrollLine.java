@@ -0,0 +1,62 @@
+package com.workstudy.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Gross pay for one student and job within a payroll run. Recomputing a student
+ * adds lines with the next revision; the highest revision per student is current.
+ */
+@Entity
+@Immutable
+@Table(name = "payroll_lines", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payroll_lines_revision", columnNames = {"run_id", "student_id", "revision", "job_id"})
+}, indexes = {
+        @Index(name = "idx_payroll_lines_run_id", columnList = "run_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PayrollLine {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payroll_lines_seq")
+    @SequenceGenerator(name = "payroll_lines_seq", sequenceName = "payroll_lines_seq", allocationSize = 50)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "run_id", nullable = false)
+    private PayrollRun run;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private User student;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    private JobPosting job;
+    
+    @Column(nullable = false)
+    private String department;
+    
+    @Column(nullable = false)
+    private BigDecimal hours;
+    
+    @Column(nullable = false)
+    private BigDecimal hourlyRate;
+    
+    @Column(nullable = false)
+    private BigDecimal grossPay;
+    
+    @Column(nullable = false)
+    private Integer revision;
+    
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,58 @@
+package com.workstudy.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A payroll computation for one pay period. Runs are never updated; the totals
+ * are those of the original computation, and later per-student recomputations
+ * are recorded as new revisions of that student's lines.
+ */
+@Entity
+@Immutable
+@Table(name = "payroll_runs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PayrollRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payroll_runs_seq")
+    @SequenceGenerator(name = "payroll_runs_seq", sequenceName = "payroll_runs_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private LocalDate periodStart;
+    
+    @Column(nullable = false)
+    private LocalDate periodEnd;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", nullable = false)
+    private User createdBy;
+    
+    @Column(nullable = false)
+    private Long studentCount;
+    
+    @Column(nullable = false)
+    private Long lineCount;
+    
+    @Column(nullable = false)
+    private BigDecimal totalHours;
+    
+    @Column(nullable = false)
+    private BigDecimal totalGross;
+    
+    @Column(nullable = false)
+    private Long durationMillis;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
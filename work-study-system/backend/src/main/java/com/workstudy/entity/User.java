@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,7 +20,8 @@ import java.util.Collections;
 @AllArgsConstructor
 public class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -44,6 +46,11 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Boolean active = true;
     
+    // Bumped to revoke every token issued before; see TokenEpochs
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer tokenEpoch = 0;
+    
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -11,13 +11,20 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "work_hours")
+@Table(name = "work_hours", indexes = {
+        @Index(name = "idx_work_hours_student_id", columnList = "student_id, id"),
+        @Index(name = "idx_work_hours_job_id", columnList = "job_id, id"),
+        @Index(name = "idx_work_hours_work_date", columnList = "work_date, status"),
+        @Index(name = "idx_work_hours_student_job_date", columnList = "student_id, job_id, work_date"),
+        @Index(name = "idx_work_hours_student_date", columnList = "student_id, work_date, start_time")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class WorkHours {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_hours_seq")
+    @SequenceGenerator(name = "work_hours_seq", sequenceName = "work_hours_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
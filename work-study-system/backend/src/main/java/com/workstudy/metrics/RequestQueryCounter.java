@@ -0,0 +1,40 @@
+package com.workstudy.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the entities it loads on the current
+ * thread. Registered as both the statement inspector and the session interceptor;
+ * RequestMetricsFilter resets and reads the counts around each request.
+ */
+public class RequestQueryCounter implements StatementInspector, Interceptor {
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+    
+    @Override
+    public String inspect(String sql) {
+        COUNTS.get()[0]++;
+        return sql;
+    }
+    
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        COUNTS.get()[1]++;
+        return false;
+    }
+    
+    static void reset() {
+        long[] counts = COUNTS.get();
+        counts[0] = 0;
+        counts[1] = 0;
+    }
+    
+    static long statements() {
+        return COUNTS.get()[0];
+    }
+    
+    static long entityLoads() {
+        return COUNTS.get()[1];
+    }
+}
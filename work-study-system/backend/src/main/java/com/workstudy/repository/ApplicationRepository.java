@@ -1,11 +1,22 @@
 package com.workstudy.repository;
 
+import com.workstudy.dto.ApplicationView;
 import com.workstudy.entity.Application;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
@@ -15,4 +26,41 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     Optional<Application> findByStudentIdAndJobId(Long studentId, Long jobId);
     long countByJobId(Long jobId);
     long countByJobIdAndStatus(Long jobId, Application.Status status);
+    long countByStatus(Application.Status status);
+    long countByStudentId(Long studentId);
+    
+    String SELECT_VIEW = "SELECT new com.workstudy.dto.ApplicationView(a.id, s.id, s.fullName, s.email, s.department, " +
+            "j.id, j.title, j.department, a.coverLetter, a.resumeUrl, a.status, a.adminNotes, a.appliedAt, " +
+            "a.reviewedAt, r.id, r.fullName) " +
+            "FROM Application a JOIN a.student s JOIN a.job j LEFT JOIN a.reviewedBy r ";
+    
+    @Query(SELECT_VIEW + "WHERE a.id < :cursor ORDER BY a.id DESC")
+    List<ApplicationView> findViews(@Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE s.id = :studentId AND a.id < :cursor ORDER BY a.id DESC")
+    List<ApplicationView> findViewsByStudentId(@Param("studentId") Long studentId, @Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE j.id = :jobId AND a.id < :cursor ORDER BY a.id DESC")
+    List<ApplicationView> findViewsByJobId(@Param("jobId") Long jobId, @Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE a.status = :status AND a.id < :cursor ORDER BY a.id DESC")
+    List<ApplicationView> findViewsByStatus(@Param("status") Application.Status status, @Param("cursor") Long cursor, Limit limit);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_VIEW + "WHERE (:status IS NULL OR a.status = :status) " +
+           "AND (:from IS NULL OR a.appliedAt >= :from) AND (:to IS NULL OR a.appliedAt < :to) " +
+           "ORDER BY a.id")
+    Stream<ApplicationView> streamViews(@Param("status") Application.Status status,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+    
+    @Query(SELECT_VIEW + "WHERE a.id = :id")
+    Optional<ApplicationView> findViewById(@Param("id") Long id);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Application a WHERE a.id = :id")
+    Optional<Application> findByIdForUpdate(@Param("id") Long id);
 }
@@ -1,14 +1,36 @@
 package com.workstudy.repository;
 
+import com.workstudy.dto.FeedbackView;
 import com.workstudy.entity.Feedback;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
     List<Feedback> findByStudentId(Long studentId);
     List<Feedback> findByJobId(Long jobId);
     List<Feedback> findByGivenById(Long givenById);
+    long countByStudentId(Long studentId);
+    
+    String SELECT_VIEW = "SELECT new com.workstudy.dto.FeedbackView(f.id, s.id, s.fullName, j.id, j.title, " +
+            "g.id, g.fullName, f.rating, f.comments, f.performanceAreas, f.createdAt) " +
+            "FROM Feedback f JOIN f.student s JOIN f.job j JOIN f.givenBy g ";
+    
+    @Query(SELECT_VIEW + "WHERE f.id < :cursor ORDER BY f.id DESC")
+    List<FeedbackView> findViews(@Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE s.id = :studentId AND f.id < :cursor ORDER BY f.id DESC")
+    List<FeedbackView> findViewsByStudentId(@Param("studentId") Long studentId, @Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE j.id = :jobId AND f.id < :cursor ORDER BY f.id DESC")
+    List<FeedbackView> findViewsByJobId(@Param("jobId") Long jobId, @Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE f.id = :id")
+    Optional<FeedbackView> findViewById(@Param("id") Long id);
 }
@@ -1,14 +1,62 @@
 package com.workstudy.repository;
 
+import com.workstudy.dto.JobPostingStatus;
+import com.workstudy.dto.JobPostingView;
 import com.workstudy.entity.JobPosting;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
     List<JobPosting> findByStatus(JobPosting.Status status);
     List<JobPosting> findByPostedById(Long postedById);
     List<JobPosting> findByDepartment(String department);
+    long countByStatus(JobPosting.Status status);
+    
+    String SELECT_VIEW = "SELECT new com.workstudy.dto.JobPostingView(j.id, j.title, j.description, j.department, " +
+            "j.location, j.hourlyRate, j.maxHoursPerWeek, j.totalPositions, j.filledPositions, " +
+            "j.applicationDeadline, j.status, p.id, p.fullName, j.createdAt, j.updatedAt) " +
+            "FROM JobPosting j JOIN j.postedBy p ";
+    
+    @Query(SELECT_VIEW + "WHERE j.id < :cursor ORDER BY j.id DESC")
+    List<JobPostingView> findViews(@Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE j.department = :department AND j.id < :cursor ORDER BY j.id DESC")
+    List<JobPostingView> findViewsByDepartment(@Param("department") String department, @Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "ORDER BY j.id")
+    List<JobPostingView> findAllViews();
+    
+    @Query(SELECT_VIEW + "WHERE j.status = :status ORDER BY j.id")
+    List<JobPostingView> findViewsByStatus(@Param("status") JobPosting.Status status);
+    
+    @Query(SELECT_VIEW + "WHERE j.id = :id")
+    Optional<JobPostingView> findViewById(@Param("id") Long id);
+    
+    @Query("SELECT new com.workstudy.dto.JobPostingStatus(j.id, j.title, j.department, j.status) " +
+           "FROM JobPosting j WHERE j.id = :id")
+    Optional<JobPostingStatus> findStatusById(@Param("id") Long id);
+    
+    @Query("SELECT j.maxHoursPerWeek FROM JobPosting j WHERE j.id = :id")
+    Optional<Integer> findMaxHoursPerWeekById(@Param("id") Long id);
+    
+    @Modifying
+    @Query("UPDATE JobPosting j SET j.filledPositions = j.filledPositions + 1, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = :active AND j.filledPositions < j.totalPositions")
+    int claimPosition(@Param("id") Long id, @Param("active") JobPosting.Status active, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE JobPosting j SET j.status = :filled " +
+           "WHERE j.id = :id AND j.status = :active AND j.filledPositions >= j.totalPositions")
+    int markFilledIfFull(@Param("id") Long id,
+                         @Param("active") JobPosting.Status active,
+                         @Param("filled") JobPosting.Status filled);
 }
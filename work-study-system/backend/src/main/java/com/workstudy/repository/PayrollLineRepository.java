@@ -0,0 +1,37 @@
+package com.workstudy.repository;
+
+import com.workstudy.dto.PayrollLineView;
+import com.workstudy.dto.PayrollTotals;
+import com.workstudy.entity.PayrollLine;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PayrollLineRepository extends JpaRepository<PayrollLine, Long> {
+    
+    // Only the latest revision of each student's lines counts
+    String CURRENT = "l.revision = (SELECT MAX(x.revision) FROM PayrollLine x WHERE x.run = l.run AND x.student = l.student) ";
+    
+    String SELECT_VIEW = "SELECT new com.workstudy.dto.PayrollLineView(l.id, l.run.id, s.id, s.fullName, j.id, j.title, " +
+            "l.department, l.hours, l.hourlyRate, l.grossPay, l.revision, l.computedAt) " +
+            "FROM PayrollLine l JOIN l.student s JOIN l.job j ";
+    
+    @Query(SELECT_VIEW + "WHERE l.run.id = :runId AND " + CURRENT + "AND l.id < :cursor ORDER BY l.id DESC")
+    List<PayrollLineView> findCurrentViews(@Param("runId") Long runId, @Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE l.run.id = :runId AND s.id = :studentId AND " + CURRENT + "ORDER BY j.id")
+    List<PayrollLineView> findCurrentViewsByStudent(@Param("runId") Long runId, @Param("studentId") Long studentId);
+    
+    @Query("SELECT new com.workstudy.dto.PayrollTotals(COUNT(DISTINCT l.student.id), COUNT(l), " +
+           "COALESCE(SUM(l.hours), 0), COALESCE(SUM(l.grossPay), 0)) " +
+           "FROM PayrollLine l WHERE l.run.id = :runId AND " + CURRENT)
+    PayrollTotals sumCurrent(@Param("runId") Long runId);
+    
+    @Query("SELECT COALESCE(MAX(l.revision), 0) FROM PayrollLine l WHERE l.run.id = :runId AND l.student.id = :studentId")
+    int findLatestRevision(@Param("runId") Long runId, @Param("studentId") Long studentId);
+}
@@ -0,0 +1,26 @@
+package com.workstudy.repository;
+
+import com.workstudy.dto.PayrollRunView;
+import com.workstudy.entity.PayrollRun;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+    
+    String SELECT_VIEW = "SELECT new com.workstudy.dto.PayrollRunView(r.id, r.periodStart, r.periodEnd, c.id, c.fullName, " +
+            "r.createdAt, r.durationMillis, r.studentCount, r.lineCount, r.totalHours, r.totalGross) " +
+            "FROM PayrollRun r JOIN r.createdBy c ";
+    
+    @Query(SELECT_VIEW + "WHERE r.id < :cursor ORDER BY r.id DESC")
+    List<PayrollRunView> findViews(@Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE r.id = :id")
+    Optional<PayrollRunView> findViewById(@Param("id") Long id);
+}
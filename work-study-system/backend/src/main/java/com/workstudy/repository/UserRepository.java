@@ -1,9 +1,15 @@
 package com.workstudy.repository;
 
+import com.workstudy.dto.UserTokenEpoch;
 import com.workstudy.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +18,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    long countByRole(User.Role role);
+    boolean existsByIdAndRole(Long id, User.Role role);
+    
+    @Query("SELECT u.id FROM User u WHERE u.username = :username AND u.role = :role")
+    Optional<Long> findIdByUsernameAndRole(@Param("username") String username, @Param("role") User.Role role);
+    
+    @Query("SELECT new com.workstudy.dto.UserTokenEpoch(u.id, u.tokenEpoch) FROM User u WHERE u.tokenEpoch <> 0")
+    List<UserTokenEpoch> findBumpedTokenEpochs();
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
 }
@@ -1,11 +1,33 @@
 package com.workstudy.repository;
 
+import com.workstudy.dto.DailyHoursTotal;
+import com.workstudy.dto.JobHoursTotal;
+import com.workstudy.dto.PayrollAggregate;
+import com.workstudy.dto.StatusHoursTotal;
+import com.workstudy.dto.StudentHoursTotal;
+import com.workstudy.dto.WorkHoursShift;
+import com.workstudy.dto.WorkHoursStatusSnapshot;
+import com.workstudy.dto.WorkHoursView;
+import com.workstudy.entity.User;
 import com.workstudy.entity.WorkHours;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface WorkHoursRepository extends JpaRepository<WorkHours, Long> {
@@ -14,4 +36,144 @@ public interface WorkHoursRepository extends JpaRepository<WorkHours, Long> {
     List<WorkHours> findByStudentIdAndJobId(Long studentId, Long jobId);
     List<WorkHours> findByStatus(WorkHours.Status status);
     List<WorkHours> findByStudentIdAndWorkDateBetween(Long studentId, LocalDate startDate, LocalDate endDate);
+    
+    String SELECT_VIEW = "SELECT new com.workstudy.dto.WorkHoursView(w.id, s.id, s.fullName, j.id, j.title, " +
+            "w.workDate, w.startTime, w.endTime, w.hoursWorked, w.description, w.status, w.supervisorNotes, " +
+            "a.id, a.fullName, w.approvedAt, w.createdAt) " +
+            "FROM WorkHours w JOIN w.student s JOIN w.job j LEFT JOIN w.approvedBy a ";
+    
+    @Query(SELECT_VIEW + "WHERE w.id < :cursor ORDER BY w.id DESC")
+    List<WorkHoursView> findViews(@Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE s.id = :studentId AND w.id < :cursor ORDER BY w.id DESC")
+    List<WorkHoursView> findViewsByStudentId(@Param("studentId") Long studentId, @Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE j.id = :jobId AND w.id < :cursor ORDER BY w.id DESC")
+    List<WorkHoursView> findViewsByJobId(@Param("jobId") Long jobId, @Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SELECT_VIEW + "WHERE s.id = :studentId AND w.workDate BETWEEN :startDate AND :endDate ORDER BY w.workDate, w.startTime")
+    List<WorkHoursView> findViewsByStudentIdAndWorkDateBetween(@Param("studentId") Long studentId,
+                                                               @Param("startDate") LocalDate startDate,
+                                                               @Param("endDate") LocalDate endDate);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_VIEW + "WHERE (:status IS NULL OR w.status = :status) " +
+           "AND (:startDate IS NULL OR w.workDate >= :startDate) AND (:endDate IS NULL OR w.workDate <= :endDate) " +
+           "ORDER BY w.id")
+    Stream<WorkHoursView> streamViews(@Param("status") WorkHours.Status status,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+    
+    String SELECT_PAYROLL = "SELECT new com.workstudy.dto.PayrollAggregate(w.student.id, j.id, j.department, " +
+            "j.hourlyRate, SUM(w.hoursWorked)) FROM WorkHours w JOIN w.job j " +
+            "WHERE w.status = :status AND w.workDate BETWEEN :startDate AND :endDate ";
+    
+    String GROUP_PAYROLL = "GROUP BY w.student.id, j.id, j.department, j.hourlyRate";
+    
+    @Query("SELECT DISTINCT j.department FROM WorkHours w JOIN w.job j " +
+           "WHERE w.status = :status AND w.workDate BETWEEN :startDate AND :endDate")
+    List<String> findDepartmentsWithHours(@Param("status") WorkHours.Status status,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+    
+    @Query(SELECT_PAYROLL + "AND j.department = :department " + GROUP_PAYROLL)
+    List<PayrollAggregate> sumPayrollHoursByDepartment(@Param("department") String department,
+                                                       @Param("status") WorkHours.Status status,
+                                                       @Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate);
+    
+    @Query(SELECT_PAYROLL + "AND w.student.id = :studentId " + GROUP_PAYROLL)
+    List<PayrollAggregate> sumPayrollHoursByStudent(@Param("studentId") Long studentId,
+                                                    @Param("status") WorkHours.Status status,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+    
+    String SELECT_SHIFT = "SELECT new com.workstudy.dto.WorkHoursShift(w.id, w.student.id, w.job.id, " +
+            "w.workDate, w.startTime, w.endTime) FROM WorkHours w ";
+    
+    @Query(SELECT_SHIFT + "WHERE w.student.id = :studentId AND w.workDate = :workDate " +
+           "AND w.status <> :excludedStatus AND w.id <> :excludedId")
+    List<WorkHoursShift> findShifts(@Param("studentId") Long studentId,
+                                    @Param("workDate") LocalDate workDate,
+                                    @Param("excludedStatus") WorkHours.Status excludedStatus,
+                                    @Param("excludedId") Long excludedId);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_SHIFT + "WHERE w.status <> :excludedStatus ORDER BY w.student.id, w.workDate, w.startTime, w.id")
+    Stream<WorkHoursShift> streamShifts(@Param("excludedStatus") WorkHours.Status excludedStatus);
+    
+    @Query("SELECT COALESCE(SUM(w.hoursWorked), 0) FROM WorkHours w " +
+           "WHERE w.student.id = :studentId AND w.job.id = :jobId AND w.workDate BETWEEN :startDate AND :endDate " +
+           "AND w.status <> :excludedStatus AND w.id <> :excludedId")
+    BigDecimal sumHoursWorkedForWeek(@Param("studentId") Long studentId,
+                                     @Param("jobId") Long jobId,
+                                     @Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate,
+                                     @Param("excludedStatus") WorkHours.Status excludedStatus,
+                                     @Param("excludedId") Long excludedId);
+    
+    @Query("SELECT COALESCE(SUM(w.hoursWorked), 0) FROM WorkHours w WHERE w.status = :status")
+    BigDecimal sumHoursWorkedByStatus(@Param("status") WorkHours.Status status);
+    
+    @Query("SELECT COALESCE(SUM(w.hoursWorked), 0) FROM WorkHours w " +
+           "WHERE w.student.id = :studentId AND w.status = :status")
+    BigDecimal sumHoursWorkedByStudentIdAndStatus(@Param("studentId") Long studentId,
+                                                  @Param("status") WorkHours.Status status);
+    
+    @Query("SELECT COALESCE(SUM(w.hoursWorked), 0) FROM WorkHours w " +
+           "WHERE w.student.id = :studentId AND w.job.id = :jobId AND w.status = :status")
+    BigDecimal sumHoursWorkedByStudentIdAndJobIdAndStatus(@Param("studentId") Long studentId,
+                                                          @Param("jobId") Long jobId,
+                                                          @Param("status") WorkHours.Status status);
+    
+    @Query("SELECT new com.workstudy.dto.StudentHoursTotal(w.student.id, SUM(w.hoursWorked), COUNT(w)) " +
+           "FROM WorkHours w WHERE w.student.id IN :studentIds AND w.status = :status " +
+           "GROUP BY w.student.id")
+    List<StudentHoursTotal> sumHoursWorkedGroupByStudent(@Param("studentIds") Collection<Long> studentIds,
+                                                         @Param("status") WorkHours.Status status);
+    
+    @Query("SELECT new com.workstudy.dto.JobHoursTotal(j.id, j.title, SUM(w.hoursWorked), COUNT(w)) " +
+           "FROM WorkHours w JOIN w.job j WHERE w.student.id = :studentId AND w.status = :status " +
+           "GROUP BY j.id, j.title ORDER BY j.id")
+    List<JobHoursTotal> sumHoursWorkedGroupByJob(@Param("studentId") Long studentId,
+                                                 @Param("status") WorkHours.Status status);
+    
+    @Query("SELECT new com.workstudy.dto.StatusHoursTotal(w.status, SUM(w.hoursWorked), COUNT(w)) " +
+           "FROM WorkHours w WHERE w.student.id = :studentId GROUP BY w.status")
+    List<StatusHoursTotal> sumHoursWorkedGroupByStatus(@Param("studentId") Long studentId);
+    
+    @Query("SELECT new com.workstudy.dto.DailyHoursTotal(w.workDate, SUM(w.hoursWorked), COUNT(w)) " +
+           "FROM WorkHours w WHERE w.student.id = :studentId AND w.status = :status " +
+           "AND w.workDate BETWEEN :startDate AND :endDate GROUP BY w.workDate ORDER BY w.workDate")
+    List<DailyHoursTotal> sumHoursWorkedGroupByDay(@Param("studentId") Long studentId,
+                                                   @Param("status") WorkHours.Status status,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT w.id FROM WorkHours w WHERE w.job.id = :jobId AND w.status = :status " +
+           "AND w.workDate BETWEEN :startDate AND :endDate ORDER BY w.id")
+    List<Long> findIdsByJobIdAndStatusAndWorkDateBetween(@Param("jobId") Long jobId,
+                                                         @Param("status") WorkHours.Status status,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.workstudy.dto.WorkHoursStatusSnapshot(w.id, w.status, w.hoursWorked, w.student.id) " +
+           "FROM WorkHours w WHERE w.id IN :ids")
+    List<WorkHoursStatusSnapshot> lockStatusSnapshots(@Param("ids") Collection<Long> ids);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkHours w SET w.status = :status, w.supervisorNotes = :notes, " +
+           "w.approvedBy = :admin, w.approvedAt = :approvedAt WHERE w.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") WorkHours.Status status,
+                          @Param("notes") String notes,
+                          @Param("admin") User admin,
+                          @Param("approvedAt") LocalDateTime approvedAt);
 }
@@ -1,7 +1,8 @@
 package com.workstudy.security;
 
-import com.workstudy.entity.User;
-import com.workstudy.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,12 +16,14 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
-    private final UserService userService;
+    private final TokenEpochs tokenEpochs;
+    private final MeterRegistry meterRegistry;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -28,15 +31,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                String username = jwtUtil.getUsernameFromToken(jwt);
-                User user = userService.findByUsername(username);
+            if (StringUtils.hasText(jwt)) {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                Optional<Claims> parsed = jwtUtil.parseToken(jwt);
+                // Refresh tokens are not accepted as access tokens, and a bumped epoch revokes older tokens
+                Optional<Claims> verified = parsed
+                        .filter(claims -> !JwtUtil.isRefreshToken(claims))
+                        .filter(this::isCurrentEpoch);
+                sample.stop(meterRegistry.timer("workstudy.jwt.verify", "outcome",
+                        verified.isPresent() ? "valid" : parsed.isPresent() ? "revoked" : "invalid"));
                 
-                UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                verified.ifPresent(claims -> {
+                    // The principal comes straight from the verified claims; handlers that
+                    // need the full User entity load it themselves
+                    UserDetailsImpl principal = UserDetailsImpl.fromClaims(claims);
+                    
+                    UsernamePasswordAuthenticationToken authentication = 
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
@@ -45,6 +60,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    private boolean isCurrentEpoch(Claims claims) {
+        Object id = claims.get("id");
+        return id instanceof Number number && tokenEpochs.current(number.longValue()) == JwtUtil.epochOf(claims);
+    }
+    
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -3,24 +3,40 @@ package com.workstudy.security;
 import com.workstudy.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
+    public static final String EPOCH_CLAIM = "epoch";
+    private static final String TYPE_CLAIM = "type";
+    private static final String REFRESH_TYPE = "refresh";
     
     @Value("${jwt.secret:workstudysecretkeyworkstudysecretkey}")
     private String jwtSecret;
     
-    @Value("${jwt.expiration:86400000}")
-    private int jwtExpiration;
+    @Value("${jwt.expiration:900000}")
+    private long jwtExpiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    @Value("${jwt.refresh-expiration:604800000}")
+    private long refreshExpiration;
+    
+    // The key and parser are immutable and thread-safe, so they are built once
+    private SecretKey signingKey;
+    private JwtParser parser;
+    
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
     
     public String generateToken(User user) {
@@ -32,32 +48,61 @@ public class JwtUtil {
                 .claim("id", user.getId())
                 .claim("role", user.getRole().name())
                 .claim("fullName", user.getFullName())
+                .claim(EPOCH_CLAIM, user.getTokenEpoch())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
     
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * A long-lived token that can only be exchanged for a new access token at
+     * /api/auth/refresh, which checks the user's account before issuing one.
+     */
+    public String generateRefreshToken(User user) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + refreshExpiration);
         
-        return claims.getSubject();
+        return Jwts.builder()
+                .subject(user.getUsername())
+                .claim("id", user.getId())
+                .claim(TYPE_CLAIM, REFRESH_TYPE)
+                .claim(EPOCH_CLAIM, user.getTokenEpoch())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey)
+                .compact();
     }
     
-    public boolean validateToken(String token) {
+    public static boolean isRefreshToken(Claims claims) {
+        return REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class));
+    }
+    
+    // Tokens issued before epochs existed have none and count as epoch 0
+    public static int epochOf(Claims claims) {
+        Integer epoch = claims.get(EPOCH_CLAIM, Integer.class);
+        return epoch != null ? epoch : 0;
+    }
+    
+    /**
+     * Verifies the signature and expiry of the token and returns its claims,
+     * or an empty result if the token is not valid.
+     */
+    public Optional<Claims> parseToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException | ExpiredJwtException |
-                 UnsupportedJwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
+    
+    public String getUsernameFromToken(String token) {
+        return parser.parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+    
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
 }
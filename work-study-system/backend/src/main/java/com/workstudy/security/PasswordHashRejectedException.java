@@ -0,0 +1,10 @@
+package com.workstudy.security;
+
+/**
+ * Thrown when the password-hash queue is full; answered with 503 and Retry-After.
+ */
+public class PasswordHashRejectedException extends RuntimeException {
+    public PasswordHashRejectedException() {
+        super("Too many logins in progress, try again shortly", null, false, false);
+    }
+}
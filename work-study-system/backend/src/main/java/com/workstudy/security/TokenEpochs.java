@@ -0,0 +1,120 @@
+package com.workstudy.security;
+
+import com.workstudy.dto.UserTokenEpoch;
+import com.workstudy.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Each user's current token epoch, kept in memory so the authentication filter can
+ * reject revoked tokens without a query. Tokens carry the epoch they were issued
+ * in; bumping a user's epoch (on deactivation or a role change) invalidates every
+ * token issued before. Only users whose epoch was ever bumped are held, so the map
+ * stays small. The epoch is stored on the user row and reloaded at startup.
+ * <p>
+ * Every authenticated request reads this map, while writes are rare, so it is an
+ * open-addressing table of primitive ids and epochs that a write copies and
+ * republishes: a read is a few array loads with no boxing and no lock.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenEpochs {
+    private static final Logger logger = LoggerFactory.getLogger(TokenEpochs.class);
+    
+    private final UserRepository userRepository;
+    
+    private volatile Table epochs = Table.EMPTY;
+    
+    // Loaded before the server accepts requests, so no revoked token slips through at startup
+    @PostConstruct
+    void load() {
+        List<UserTokenEpoch> bumped = userRepository.findBumpedTokenEpochs();
+        bumped.forEach(user -> record(user.id(), user.epoch()));
+        logger.info("Loaded token epochs of {} users", bumped.size());
+    }
+    
+    public int current(long userId) {
+        return epochs.get(userId);
+    }
+    
+    /**
+     * Records a user's new epoch once the transaction that stored it commits.
+     */
+    public void bumped(Long userId, int epoch) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(userId, epoch);
+                }
+            });
+        } else {
+            record(userId, epoch);
+        }
+    }
+    
+    private synchronized void record(long userId, int epoch) {
+        if (epoch > epochs.get(userId)) {
+            epochs = epochs.with(userId, epoch);
+        }
+    }
+    
+    // Linear probing; 0 marks an empty slot, which is safe as user ids start at 1
+    private record Table(long[] ids, int[] epochs, int size) {
+        static final Table EMPTY = new Table(new long[16], new int[16], 0);
+        
+        int get(long userId) {
+            int mask = ids.length - 1;
+            for (int i = slot(userId, mask); ids[i] != 0; i = (i + 1) & mask) {
+                if (ids[i] == userId) {
+                    return epochs[i];
+                }
+            }
+            return 0;
+        }
+        
+        // A copy with the entry added or replaced, grown to keep the table at most half full
+        Table with(long userId, int epoch) {
+            int capacity = (size + 1) * 2 > ids.length ? ids.length * 2 : ids.length;
+            Table copy = capacity == ids.length
+                    ? new Table(Arrays.copyOf(ids, capacity), Arrays.copyOf(epochs, capacity), size)
+                    : rehash(capacity);
+            return copy.put(userId, epoch);
+        }
+        
+        private Table rehash(int capacity) {
+            Table table = new Table(new long[capacity], new int[capacity], 0);
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] != 0) {
+                    table = table.put(ids[i], epochs[i]);
+                }
+            }
+            return table;
+        }
+        
+        // Writes into this table's arrays, so only used on a fresh copy
+        private Table put(long userId, int epoch) {
+            int mask = ids.length - 1;
+            int i = slot(userId, mask);
+            while (ids[i] != 0 && ids[i] != userId) {
+                i = (i + 1) & mask;
+            }
+            boolean added = ids[i] == 0;
+            ids[i] = userId;
+            epochs[i] = epoch;
+            return added ? new Table(ids, epochs, size + 1) : this;
+        }
+        
+        private static int slot(long userId, int mask) {
+            return (int) ((userId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+}
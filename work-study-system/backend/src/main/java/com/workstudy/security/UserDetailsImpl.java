@@ -2,6 +2,7 @@ package com.workstudy.security;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.workstudy.entity.User;
+import io.jsonwebtoken.Claims;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.springframework.security.core.GrantedAuthority;
@@ -25,6 +26,9 @@ public class UserDetailsImpl implements UserDetails {
     
     private Collection<? extends GrantedAuthority> authorities;
     
+    // Deactivated users cannot log in; their tokens are revoked through TokenEpochs
+    private boolean enabled;
+    
     public static UserDetailsImpl build(User user) {
         GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
         
@@ -33,7 +37,30 @@ public class UserDetailsImpl implements UserDetails {
                 user.getUsername(),
                 user.getEmail(),
                 user.getPassword(),
-                Collections.singletonList(authority)
+                Collections.singletonList(authority),
+                Boolean.TRUE.equals(user.getActive())
+        );
+    }
+    
+    /**
+     * Builds a principal from verified token claims without loading the user.
+     * Email and password are not carried in the token and are left empty.
+     */
+    public static UserDetailsImpl fromClaims(Claims claims) {
+        Object id = claims.get("id");
+        String role = claims.get("role", String.class);
+        if (!(id instanceof Number) || role == null) {
+            throw new IllegalArgumentException("Token is missing the id or role claim");
+        }
+        GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
+        
+        return new UserDetailsImpl(
+                ((Number) id).longValue(),
+                claims.getSubject(),
+                null,
+                null,
+                Collections.singletonList(authority),
+                true
         );
     }
     
@@ -51,9 +78,4 @@ public class UserDetailsImpl implements UserDetails {
     public boolean isCredentialsNonExpired() {
         return true;
     }
-    
-    @Override
-    public boolean isEnabled() {
-        return true;
-    }
 }
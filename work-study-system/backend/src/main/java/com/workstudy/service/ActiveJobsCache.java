@@ -0,0 +1,119 @@
+package com.workstudy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.repository.JobPostingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the public active-jobs board as ready-to-send JSON. Every job write bumps
+ * the version after its transaction commits; a snapshot is only served while its
+ * version is current, so a rebuild racing with a write is never kept.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActiveJobsCache {
+    // Below this size gzip saves too little to be worth a second copy
+    private static final int GZIP_MIN_BYTES = 1024;
+    
+    private final JobPostingRepository jobPostingRepository;
+    private final ObjectMapper objectMapper;
+    
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+    // A lock rather than synchronized, so a rebuild does not pin a virtual thread's carrier
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    
+    /**
+     * The ETags hash the content, so they stay valid across restarts and agree between
+     * instances; the gzip bytes differ from the JSON and get a tag of their own.
+     */
+    public record Snapshot(long version, byte[] json, byte[] gzip, String etag, String gzipEtag) {
+    }
+    
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        long currentVersion = version.get();
+        if (current != null && current.version() == currentVersion) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            current = snapshot;
+            currentVersion = version.get();
+            if (current == null || current.version() != currentVersion) {
+                current = build(currentVersion);
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+    
+    // Data written outside JobPostingService, such as the seed data, is picked up once startup completes
+    @EventListener(ApplicationReadyEvent.class)
+    public void reset() {
+        version.incrementAndGet();
+    }
+    
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+    
+    private Snapshot build(long forVersion) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(jobPostingRepository.findViewsByStatus(JobPosting.Status.ACTIVE));
+            String hash = contentHash(json);
+            return new Snapshot(forVersion, json, json.length >= GZIP_MIN_BYTES ? gzip(json) : null,
+                    "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize active jobs", e);
+        }
+    }
+    
+    private static String contentHash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
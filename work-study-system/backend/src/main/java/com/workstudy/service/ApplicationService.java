@@ -2,59 +2,94 @@ package com.workstudy.service;
 
 import com.workstudy.dto.ApplicationRequest;
 import com.workstudy.dto.ApplicationStatusRequest;
+import com.workstudy.dto.ApplicationView;
+import com.workstudy.dto.CursorPage;
+import com.workstudy.dto.JobPostingStatus;
 import com.workstudy.entity.Application;
 import com.workstudy.entity.JobPosting;
 import com.workstudy.entity.User;
 import com.workstudy.repository.ApplicationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final JobPostingService jobPostingService;
+    private final DashboardStatsService dashboardStatsService;
+    private final StatusEventService statusEventService;
     
     @Transactional
-    public Application submitApplication(ApplicationRequest request, User student) {
-        JobPosting job = jobPostingService.findById(request.getJobId());
+    public ApplicationView submitApplication(ApplicationRequest request, User student) {
+        JobPostingStatus job = jobPostingService.findStatusById(request.getJobId());
         
-        if (job.getStatus() != JobPosting.Status.ACTIVE) {
+        if (job.status() != JobPosting.Status.ACTIVE) {
             throw new RuntimeException("This job is no longer accepting applications");
         }
         
-        if (applicationRepository.findByStudentIdAndJobId(student.getId(), job.getId()).isPresent()) {
-            throw new RuntimeException("You have already applied for this position");
-        }
-        
         Application application = new Application();
         application.setStudent(student);
-        application.setJob(job);
+        application.setJob(jobPostingService.getReference(job.id()));
         application.setCoverLetter(request.getCoverLetter());
         application.setResumeUrl(request.getResumeUrl());
         application.setStatus(Application.Status.PENDING);
         
-        return applicationRepository.save(application);
+        // Duplicates are rejected by uk_applications_student_job rather than a lookup before the insert
+        Application saved;
+        try {
+            saved = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateApplication(e)) {
+                throw new RuntimeException("You have already applied for this position");
+            }
+            throw e;
+        }
+        dashboardStatsService.applicationCreated(saved);
+        // The student is an unloaded reference, so the response carries only its id
+        return new ApplicationView(saved.getId(), new ApplicationView.Student(student.getId(), null, null, null),
+                new ApplicationView.Job(job.id(), job.title(), job.department()), saved.getCoverLetter(),
+                saved.getResumeUrl(), saved.getStatus(), saved.getAdminNotes(), saved.getAppliedAt(), null, null);
+    }
+    
+    private static boolean isDuplicateApplication(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains("uk_applications_student_job");
+    }
+    
+    public CursorPage<ApplicationView> findByStudent(Long studentId, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                (after, max) -> applicationRepository.findViewsByStudentId(studentId, after, max),
+                ApplicationView::id);
+    }
+    
+    public CursorPage<ApplicationView> findByJob(Long jobId, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                (after, max) -> applicationRepository.findViewsByJobId(jobId, after, max),
+                ApplicationView::id);
     }
     
-    public List<Application> findByStudent(Long studentId) {
-        return applicationRepository.findByStudentId(studentId);
+    public CursorPage<ApplicationView> findAll(String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit, applicationRepository::findViews, ApplicationView::id);
     }
     
-    public List<Application> findByJob(Long jobId) {
-        return applicationRepository.findByJobId(jobId);
+    public CursorPage<ApplicationView> findByStatus(Application.Status status, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                (after, max) -> applicationRepository.findViewsByStatus(status, after, max),
+                ApplicationView::id);
     }
     
-    public List<Application> findAll() {
-        return applicationRepository.findAll();
+    public long countByStudent(Long studentId) {
+        return applicationRepository.countByStudentId(studentId);
     }
     
-    public List<Application> findByStatus(Application.Status status) {
-        return applicationRepository.findByStatus(status);
+    public ApplicationView findViewById(Long id) {
+        return applicationRepository.findViewById(id)
+                .orElseThrow(() -> new RuntimeException("Application not found"));
     }
     
     public Application findById(Long id) {
@@ -64,26 +99,35 @@ public class ApplicationService {
     
     @Transactional
     public Application updateStatus(Long id, ApplicationStatusRequest request, User admin) {
-        Application application = findById(id);
+        // Row lock so two reviewers cannot both see the application as not yet approved
+        Application application = applicationRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("Application not found"));
+        Application.Status oldStatus = application.getStatus();
         application.setStatus(Application.Status.valueOf(request.getStatus()));
         application.setAdminNotes(request.getAdminNotes());
         application.setReviewedAt(LocalDateTime.now());
         application.setReviewedBy(admin);
         
-        if (application.getStatus() == Application.Status.APPROVED) {
+        if (application.getStatus() == Application.Status.APPROVED && oldStatus != Application.Status.APPROVED) {
             jobPostingService.incrementFilledPositions(application.getJob().getId());
         }
         
-        return applicationRepository.save(application);
+        Application saved = applicationRepository.save(application);
+        dashboardStatsService.applicationStatusChanged(oldStatus, saved.getStatus());
+        statusEventService.applicationStatusChanged(id, saved.getStudent().getId(), oldStatus, saved.getStatus());
+        return saved;
     }
     
     @Transactional
-    public void withdrawApplication(Long id, User student) {
+    public void withdrawApplication(Long id, Long studentId) {
         Application application = findById(id);
-        if (!application.getStudent().getId().equals(student.getId())) {
+        if (!application.getStudent().getId().equals(studentId)) {
             throw new RuntimeException("You can only withdraw your own applications");
         }
+        Application.Status oldStatus = application.getStatus();
         application.setStatus(Application.Status.WITHDRAWN);
         applicationRepository.save(application);
+        dashboardStatsService.applicationStatusChanged(oldStatus, application.getStatus());
+        statusEventService.applicationStatusChanged(id, studentId, oldStatus, application.getStatus());
     }
 }
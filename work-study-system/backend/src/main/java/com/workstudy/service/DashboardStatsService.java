@@ -0,0 +1,178 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.WorkHoursStatusSnapshot;
+import com.workstudy.entity.Application;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.entity.User;
+import com.workstudy.entity.WorkHours;
+import com.workstudy.repository.ApplicationRepository;
+import com.workstudy.repository.JobPostingRepository;
+import com.workstudy.repository.UserRepository;
+import com.workstudy.repository.WorkHoursRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the admin dashboard counters in memory so reads never touch the database.
+ * Write paths report their changes here; deltas are applied after the surrounding
+ * transaction commits, and a scheduled reconciliation corrects any drift.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStatsService.class);
+
+    private final UserRepository userRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final ApplicationRepository applicationRepository;
+    private final WorkHoursRepository workHoursRepository;
+
+    private final AtomicLong totalStudents = new AtomicLong();
+    private final AtomicLong totalJobs = new AtomicLong();
+    private final AtomicLong activeJobs = new AtomicLong();
+    private final AtomicLong totalApplications = new AtomicLong();
+    private final AtomicLong pendingApplications = new AtomicLong();
+    // Approved hours are stored in hundredths, matching the scale used for hoursWorked
+    private final AtomicLong approvedHundredths = new AtomicLong();
+
+    public Map<String, Object> getSnapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("totalStudents", totalStudents.get());
+        snapshot.put("totalJobs", totalJobs.get());
+        snapshot.put("activeJobs", activeJobs.get());
+        snapshot.put("totalApplications", totalApplications.get());
+        snapshot.put("pendingApplications", pendingApplications.get());
+        snapshot.put("totalWorkHours", BigDecimal.valueOf(approvedHundredths.get(), 2));
+        return snapshot;
+    }
+
+    // ── Write-path hooks ───────────────────────────────────────
+
+    public void userCreated(User user) {
+        if (user.getRole() == User.Role.STUDENT) {
+            afterCommit(totalStudents, 1);
+        }
+    }
+
+    public void roleChanged(User.Role oldRole, User.Role newRole) {
+        afterCommit(totalStudents, studentDelta(oldRole, newRole));
+    }
+
+    public void jobCreated(JobPosting job) {
+        afterCommit(totalJobs, 1);
+        if (job.getStatus() == JobPosting.Status.ACTIVE) {
+            afterCommit(activeJobs, 1);
+        }
+    }
+
+    public void jobStatusChanged(JobPosting.Status oldStatus, JobPosting.Status newStatus) {
+        afterCommit(activeJobs, activeDelta(oldStatus, newStatus));
+    }
+
+    public void jobDeleted(JobPosting job) {
+        afterCommit(totalJobs, -1);
+        if (job.getStatus() == JobPosting.Status.ACTIVE) {
+            afterCommit(activeJobs, -1);
+        }
+    }
+
+    public void applicationCreated(Application application) {
+        afterCommit(totalApplications, 1);
+        if (application.getStatus() == Application.Status.PENDING) {
+            afterCommit(pendingApplications, 1);
+        }
+    }
+
+    public void applicationStatusChanged(Application.Status oldStatus, Application.Status newStatus) {
+        afterCommit(pendingApplications, pendingDelta(oldStatus, newStatus));
+    }
+
+    public void workHoursChanged(WorkHours.Status oldStatus, BigDecimal oldHours,
+                                 WorkHours.Status newStatus, BigDecimal newHours) {
+        long delta = approvedHundredths(newStatus, newHours) - approvedHundredths(oldStatus, oldHours);
+        afterCommit(approvedHundredths, delta);
+    }
+
+    public void workHoursStatusChanged(Collection<WorkHoursStatusSnapshot> before, WorkHours.Status newStatus) {
+        long delta = 0;
+        for (WorkHoursStatusSnapshot entry : before) {
+            delta += approvedHundredths(newStatus, entry.hoursWorked()) - approvedHundredths(entry.status(), entry.hoursWorked());
+        }
+        afterCommit(approvedHundredths, delta);
+    }
+
+    // ── Reconciliation ─────────────────────────────────────────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${stats.reconcile-interval:300000}", initialDelayString = "${stats.reconcile-interval:300000}")
+    public void reconcile() {
+        correct("totalStudents", totalStudents, userRepository.countByRole(User.Role.STUDENT));
+        correct("totalJobs", totalJobs, jobPostingRepository.count());
+        correct("activeJobs", activeJobs, jobPostingRepository.countByStatus(JobPosting.Status.ACTIVE));
+        correct("totalApplications", totalApplications, applicationRepository.count());
+        correct("pendingApplications", pendingApplications, applicationRepository.countByStatus(Application.Status.PENDING));
+        correct("totalWorkHours", approvedHundredths,
+                toHundredths(workHoursRepository.sumHoursWorkedByStatus(WorkHours.Status.APPROVED)));
+    }
+
+    private void correct(String name, AtomicLong counter, long actual) {
+        long previous = counter.getAndSet(actual);
+        if (previous != actual) {
+            logger.debug("Dashboard counter {} drifted: {} -> {}", name, previous, actual);
+        }
+    }
+
+    // ── Helpers ────────────────────────────────────────────────
+
+    private void afterCommit(AtomicLong counter, long delta) {
+        if (delta == 0) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.addAndGet(delta);
+                }
+            });
+        } else {
+            counter.addAndGet(delta);
+        }
+    }
+
+    private static long studentDelta(User.Role oldRole, User.Role newRole) {
+        return (newRole == User.Role.STUDENT ? 1 : 0) - (oldRole == User.Role.STUDENT ? 1 : 0);
+    }
+
+    private static long activeDelta(JobPosting.Status oldStatus, JobPosting.Status newStatus) {
+        return (newStatus == JobPosting.Status.ACTIVE ? 1 : 0) - (oldStatus == JobPosting.Status.ACTIVE ? 1 : 0);
+    }
+
+    private static long pendingDelta(Application.Status oldStatus, Application.Status newStatus) {
+        return (newStatus == Application.Status.PENDING ? 1 : 0) - (oldStatus == Application.Status.PENDING ? 1 : 0);
+    }
+
+    private static long approvedHundredths(WorkHours.Status status, BigDecimal hours) {
+        return status == WorkHours.Status.APPROVED ? toHundredths(hours) : 0;
+    }
+
+    private static long toHundredths(BigDecimal hours) {
+        return hours == null ? 0 : hours.movePointRight(2).longValue();
+    }
+}
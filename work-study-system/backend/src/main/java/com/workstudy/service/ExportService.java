@@ -0,0 +1,106 @@
+package com.workstudy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workstudy.csv.CsvWriter;
+import com.workstudy.dto.ApplicationView;
+import com.workstudy.dto.ExportFormat;
+import com.workstudy.dto.UserSummary;
+import com.workstudy.dto.WorkHoursView;
+import com.workstudy.entity.Application;
+import com.workstudy.entity.WorkHours;
+import com.workstudy.repository.ApplicationRepository;
+import com.workstudy.repository.WorkHoursRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes work hours and applications straight from a database cursor to the
+ * response. Rows are read as read-only views with a JDBC fetch size and written
+ * one at a time, so heap use does not grow with the size of the export.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final List<String> WORK_HOURS_COLUMNS = List.of("id", "studentId", "studentName", "jobId",
+            "jobTitle", "workDate", "startTime", "endTime", "hoursWorked", "status", "description",
+            "supervisorNotes", "approvedById", "approvedByName", "approvedAt", "createdAt");
+    
+    private static final List<String> APPLICATION_COLUMNS = List.of("id", "studentId", "studentName",
+            "studentEmail", "studentDepartment", "jobId", "jobTitle", "jobDepartment", "status", "coverLetter",
+            "resumeUrl", "adminNotes", "appliedAt", "reviewedAt", "reviewedById", "reviewedByName");
+    
+    private final WorkHoursRepository workHoursRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Transactional(readOnly = true)
+    public void exportWorkHours(ExportFormat format, WorkHours.Status status, LocalDate startDate, LocalDate endDate,
+                                OutputStream out) throws IOException {
+        try (Stream<WorkHoursView> rows = workHoursRepository.streamViews(status, startDate, endDate)) {
+            write(format, rows, WORK_HOURS_COLUMNS, w -> Arrays.asList(w.id(), w.student().id(),
+                    w.student().fullName(), w.job().id(), w.job().title(), w.workDate(), w.startTime(),
+                    w.endTime(), w.hoursWorked(), w.status(), w.description(), w.supervisorNotes(),
+                    id(w.approvedBy()), name(w.approvedBy()), w.approvedAt(), w.createdAt()), out);
+        }
+    }
+    
+    /**
+     * Exports applications submitted between {@code startDate} and {@code endDate}, both inclusive.
+     */
+    @Transactional(readOnly = true)
+    public void exportApplications(ExportFormat format, Application.Status status, LocalDate startDate,
+                                   LocalDate endDate, OutputStream out) throws IOException {
+        LocalDateTime from = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime to = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+        try (Stream<ApplicationView> rows = applicationRepository.streamViews(status, from, to)) {
+            write(format, rows, APPLICATION_COLUMNS, a -> Arrays.asList(a.id(), a.student().id(),
+                    a.student().fullName(), a.student().email(), a.student().department(), a.job().id(),
+                    a.job().title(), a.job().department(), a.status(), a.coverLetter(), a.resumeUrl(),
+                    a.adminNotes(), a.appliedAt(), a.reviewedAt(), id(a.reviewedBy()), name(a.reviewedBy())), out);
+        }
+    }
+    
+    private <T> void write(ExportFormat format, Stream<T> rows, List<String> columns,
+                           Function<T, List<?>> toRecord, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        Iterator<T> iterator = rows.iterator();
+        if (format == ExportFormat.CSV) {
+            CsvWriter csv = new CsvWriter(writer);
+            csv.write(columns);
+            while (iterator.hasNext()) {
+                csv.write(toRecord.apply(iterator.next()));
+            }
+        } else {
+            while (iterator.hasNext()) {
+                writer.write(objectMapper.writeValueAsString(iterator.next()));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+    
+    private static Long id(UserSummary user) {
+        return user == null ? null : user.id();
+    }
+    
+    private static String name(UserSummary user) {
+        return user == null ? null : user.fullName();
+    }
+}
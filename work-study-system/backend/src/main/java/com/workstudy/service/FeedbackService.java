@@ -1,6 +1,8 @@
 package com.workstudy.service;
 
+import com.workstudy.dto.CursorPage;
 import com.workstudy.dto.FeedbackRequest;
+import com.workstudy.dto.FeedbackView;
 import com.workstudy.entity.Feedback;
 import com.workstudy.entity.JobPosting;
 import com.workstudy.entity.User;
@@ -9,8 +11,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class FeedbackService {
@@ -34,16 +34,29 @@ public class FeedbackService {
         return feedbackRepository.save(feedback);
     }
     
-    public List<Feedback> findByStudent(Long studentId) {
-        return feedbackRepository.findByStudentId(studentId);
+    public CursorPage<FeedbackView> findByStudent(Long studentId, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                (after, max) -> feedbackRepository.findViewsByStudentId(studentId, after, max),
+                FeedbackView::id);
+    }
+    
+    public CursorPage<FeedbackView> findByJob(Long jobId, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                (after, max) -> feedbackRepository.findViewsByJobId(jobId, after, max),
+                FeedbackView::id);
     }
     
-    public List<Feedback> findByJob(Long jobId) {
-        return feedbackRepository.findByJobId(jobId);
+    public CursorPage<FeedbackView> findAll(String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit, feedbackRepository::findViews, FeedbackView::id);
     }
     
-    public List<Feedback> findAll() {
-        return feedbackRepository.findAll();
+    public long countByStudent(Long studentId) {
+        return feedbackRepository.countByStudentId(studentId);
+    }
+    
+    public FeedbackView findViewById(Long id) {
+        return feedbackRepository.findViewById(id)
+                .orElseThrow(() -> new RuntimeException("Feedback not found"));
     }
     
     public Feedback findById(Long id) {
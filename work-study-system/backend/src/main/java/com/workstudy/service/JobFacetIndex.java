@@ -0,0 +1,265 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.CursorPage;
+import com.workstudy.dto.JobFacetResult;
+import com.workstudy.dto.JobPostingView;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.repository.JobPostingRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Facet counts and filtering for the active job board, answered from memory.
+ * Each active posting has a slot, and every facet value keeps a bitset of the
+ * slots that have it. A filter ORs the selected values within a facet and ANDs
+ * the facets together. Each facet's counts apply the other facets' filters but
+ * not its own, so students still see what widening that facet would add.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobFacetIndex {
+    private static final Logger logger = LoggerFactory.getLogger(JobFacetIndex.class);
+    
+    private final JobPostingRepository jobPostingRepository;
+    
+    private final List<JobPostingView> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    // Ordered by ID, so a page of the newest matches is a walk down from the cursor
+    private final NavigableMap<Long, Integer> slotsById = new TreeMap<>();
+    private final BitSet occupied = new BitSet();
+    private final Map<Facet, Map<String, BitSet>> values = new EnumMap<>(Facet.class);
+    // A lock rather than synchronized, so a waiting request does not pin a virtual thread's carrier
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    public enum Facet {
+        DEPARTMENT("department", JobPostingView::department, Comparator.naturalOrder()),
+        LOCATION("location", JobPostingView::location, Comparator.naturalOrder()),
+        RATE("rate", job -> RateBand.of(job.hourlyRate()).label,
+                Comparator.comparing(label -> RateBand.byLabel(label).ordinal())),
+        HOURS("hours", job -> String.valueOf(job.maxHoursPerWeek()), Comparator.comparing(Integer::valueOf)),
+        OPENINGS("openings", job -> openings(job.totalPositions() - job.filledPositions()),
+                Comparator.comparing(label -> OPENING_BANDS.indexOf(label)));
+    
+        private final String key;
+        private final Function<JobPostingView, String> value;
+        private final Comparator<String> order;
+    
+        Facet(String key, Function<JobPostingView, String> value, Comparator<String> order) {
+            this.key = key;
+            this.value = value;
+            this.order = order;
+        }
+    
+        public String key() {
+            return key;
+        }
+    }
+    
+    // Hourly-rate bands, each including its lower bound
+    private enum RateBand {
+        UNDER_12("0-12", new BigDecimal("12")),
+        FROM_12("12-15", new BigDecimal("15")),
+        FROM_15("15-18", new BigDecimal("18")),
+        FROM_18("18-20", new BigDecimal("20")),
+        FROM_20("20-plus", null);
+    
+        private final String label;
+        private final BigDecimal upperBound;
+    
+        RateBand(String label, BigDecimal upperBound) {
+            this.label = label;
+            this.upperBound = upperBound;
+        }
+    
+        static RateBand of(BigDecimal rate) {
+            for (RateBand band : values()) {
+                if (band.upperBound == null || rate.compareTo(band.upperBound) < 0) {
+                    return band;
+                }
+            }
+            throw new IllegalStateException();
+        }
+    
+        static RateBand byLabel(String label) {
+            for (RateBand band : values()) {
+                if (band.label.equals(label)) {
+                    return band;
+                }
+            }
+            throw new IllegalArgumentException(label);
+        }
+    }
+    
+    private static final List<String> OPENING_BANDS = List.of("0", "1", "2-4", "5-plus");
+    
+    private static String openings(int open) {
+        return open <= 0 ? "0" : open == 1 ? "1" : open <= 4 ? "2-4" : "5-plus";
+    }
+    
+    // Loaded once startup completes, after the seed and load-test data are written
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        List<JobPostingView> jobs = jobPostingRepository.findViewsByStatus(JobPosting.Status.ACTIVE);
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            freeSlots.clear();
+            slotsById.clear();
+            occupied.clear();
+            values.clear();
+            jobs.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Indexed facets of {} active job postings in {} ms", jobs.size(),
+                System.currentTimeMillis() - started);
+    }
+    
+    /**
+     * Replaces the indexed copy of a posting. Postings that were deleted
+     * ({@code job} is null) or are no longer active are dropped.
+     */
+    public void update(Long id, JobPostingView job) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+            if (job != null && job.status() == JobPosting.Status.ACTIVE) {
+                add(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Filters the active postings by the selected facet values and returns one
+     * page of matches, newest first, with the facet counts for the selection.
+     * Unknown values simply match nothing.
+     */
+    public JobFacetResult find(Map<Facet, Set<String>> selection, String cursor, Integer limit) {
+        lock.readLock().lock();
+        try {
+            return query(selection, cursor, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private JobFacetResult query(Map<Facet, Set<String>> selection, String cursor, Integer limit) {
+        Map<Facet, BitSet> filters = new EnumMap<>(Facet.class);
+        selection.forEach((facet, selected) -> {
+            if (!selected.isEmpty()) {
+                BitSet filter = new BitSet();
+                for (String value : selected) {
+                    BitSet slotsWithValue = values.getOrDefault(facet, Map.of()).get(value);
+                    if (slotsWithValue != null) {
+                        filter.or(slotsWithValue);
+                    }
+                }
+                filters.put(facet, filter);
+            }
+        });
+    
+        BitSet matches = (BitSet) occupied.clone();
+        filters.values().forEach(matches::and);
+    
+        Map<String, List<JobFacetResult.FacetCount>> facets = new LinkedHashMap<>();
+        for (Facet facet : Facet.values()) {
+            BitSet base = matches;
+            if (filters.containsKey(facet)) {
+                base = (BitSet) occupied.clone();
+                for (Map.Entry<Facet, BitSet> filter : filters.entrySet()) {
+                    if (filter.getKey() != facet) {
+                        base.and(filter.getValue());
+                    }
+                }
+            }
+            List<JobFacetResult.FacetCount> counts = new ArrayList<>();
+            for (Map.Entry<String, BitSet> value : values.getOrDefault(facet, Map.of()).entrySet()) {
+                BitSet intersection = (BitSet) value.getValue().clone();
+                intersection.and(base);
+                counts.add(new JobFacetResult.FacetCount(value.getKey(), intersection.cardinality()));
+            }
+            counts.sort(Comparator.comparing(JobFacetResult.FacetCount::value, facet.order));
+            facets.put(facet.key, counts);
+        }
+    
+        CursorPage<JobPostingView> page = CursorPage.fetch(cursor, limit,
+                (after, max) -> newestBefore(matches, after, max), JobPostingView::id);
+        return new JobFacetResult(matches.cardinality(), page.getItems(), page.getNext(), facets);
+    }
+    
+    private List<JobPostingView> newestBefore(BitSet matches, Long cursor, Limit limit) {
+        List<JobPostingView> jobs = new ArrayList<>(limit.max());
+        for (int slot : slotsById.headMap(cursor, false).descendingMap().values()) {
+            if (jobs.size() == limit.max()) {
+                break;
+            }
+            if (matches.get(slot)) {
+                jobs.add(slots.get(slot));
+            }
+        }
+        return jobs;
+    }
+    
+    private void add(JobPostingView job) {
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = slots.size();
+            slots.add(job);
+        } else {
+            slot = freeSlots.pop();
+            slots.set(slot, job);
+        }
+        slotsById.put(job.id(), slot);
+        occupied.set(slot);
+        for (Facet facet : Facet.values()) {
+            values.computeIfAbsent(facet, f -> new HashMap<>())
+                    .computeIfAbsent(facet.value.apply(job), v -> new BitSet())
+                    .set(slot);
+        }
+    }
+    
+    private void remove(Long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        JobPostingView job = slots.get(slot);
+        for (Facet facet : Facet.values()) {
+            Map<String, BitSet> facetValues = values.get(facet);
+            String value = facet.value.apply(job);
+            BitSet slotsWithValue = facetValues.get(value);
+            slotsWithValue.clear(slot);
+            if (slotsWithValue.isEmpty()) {
+                facetValues.remove(value);
+            }
+        }
+        occupied.clear(slot);
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+}
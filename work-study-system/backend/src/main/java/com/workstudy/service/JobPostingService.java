@@ -1,19 +1,35 @@
 package com.workstudy.service;
 
+import com.workstudy.dto.CursorPage;
+import com.workstudy.dto.JobFacetResult;
 import com.workstudy.dto.JobPostingRequest;
+import com.workstudy.dto.JobPostingStatus;
+import com.workstudy.dto.JobPostingView;
 import com.workstudy.entity.JobPosting;
 import com.workstudy.entity.User;
 import com.workstudy.repository.JobPostingRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class JobPostingService {
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    
     private final JobPostingRepository jobPostingRepository;
+    private final DashboardStatsService dashboardStatsService;
+    private final ActiveJobsCache activeJobsCache;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobFacetIndex jobFacetIndex;
     
     @Transactional
     public JobPosting createJobPosting(JobPostingRequest request, User postedBy) {
@@ -30,15 +46,24 @@ public class JobPostingService {
         job.setStatus(JobPosting.Status.ACTIVE);
         job.setPostedBy(postedBy);
         
-        return jobPostingRepository.save(job);
+        JobPosting saved = jobPostingRepository.save(job);
+        dashboardStatsService.jobCreated(saved);
+        activeJobsCache.invalidate();
+        reindex(saved.getId());
+        return saved;
+    }
+    
+    public CursorPage<JobPostingView> findAll(String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit, jobPostingRepository::findViews, JobPostingView::id);
     }
     
-    public List<JobPosting> findAll() {
-        return jobPostingRepository.findAll();
+    public List<JobPostingView> findActiveJobs() {
+        return jobPostingRepository.findViewsByStatus(JobPosting.Status.ACTIVE);
     }
     
-    public List<JobPosting> findActiveJobs() {
-        return jobPostingRepository.findByStatus(JobPosting.Status.ACTIVE);
+    public JobPostingView findViewById(Long id) {
+        return jobPostingRepository.findViewById(id)
+                .orElseThrow(() -> new RuntimeException("Job posting not found"));
     }
     
     public JobPosting findById(Long id) {
@@ -46,8 +71,33 @@ public class JobPostingService {
                 .orElseThrow(() -> new RuntimeException("Job posting not found"));
     }
     
-    public List<JobPosting> findByDepartment(String department) {
-        return jobPostingRepository.findByDepartment(department);
+    public JobPostingStatus findStatusById(Long id) {
+        return jobPostingRepository.findStatusById(id)
+                .orElseThrow(() -> new RuntimeException("Job posting not found"));
+    }
+    
+    public JobPosting getReference(Long id) {
+        return jobPostingRepository.getReferenceById(id);
+    }
+    
+    public CursorPage<JobPostingView> findByDepartment(String department, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                (after, max) -> jobPostingRepository.findViewsByDepartment(department, after, max),
+                JobPostingView::id);
+    }
+    
+    public List<JobPostingView> search(String query, JobPosting.Status status, Integer limit) {
+        int max = limit == null ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        return jobSearchIndex.search(query, status, max);
+    }
+    
+    public JobFacetResult findActiveByFacets(Map<JobFacetIndex.Facet, Set<String>> selection, String cursor,
+                                             Integer limit) {
+        return jobFacetIndex.find(selection, cursor, limit);
+    }
+    
+    public long countActiveJobs() {
+        return jobPostingRepository.countByStatus(JobPosting.Status.ACTIVE);
     }
     
     @Transactional
@@ -61,28 +111,71 @@ public class JobPostingService {
         job.setMaxHoursPerWeek(request.getMaxHoursPerWeek());
         job.setTotalPositions(request.getTotalPositions());
         job.setApplicationDeadline(request.getApplicationDeadline());
+        activeJobsCache.invalidate();
+        reindex(id);
         return jobPostingRepository.save(job);
     }
     
     @Transactional
     public void closeJobPosting(Long id) {
         JobPosting job = findById(id);
+        JobPosting.Status oldStatus = job.getStatus();
         job.setStatus(JobPosting.Status.CLOSED);
         jobPostingRepository.save(job);
+        dashboardStatsService.jobStatusChanged(oldStatus, job.getStatus());
+        activeJobsCache.invalidate();
+        reindex(id);
     }
     
+    /**
+     * Claims one open position of an active posting with a conditional UPDATE, so
+     * concurrent approvals can never push filledPositions past totalPositions.
+     */
     @Transactional
     public void incrementFilledPositions(Long id) {
-        JobPosting job = findById(id);
-        job.setFilledPositions(job.getFilledPositions() + 1);
-        if (job.getFilledPositions() >= job.getTotalPositions()) {
-            job.setStatus(JobPosting.Status.FILLED);
+        if (jobPostingRepository.claimPosition(id, JobPosting.Status.ACTIVE, LocalDateTime.now()) == 0) {
+            JobPosting.Status status = jobPostingRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Job posting not found"))
+                    .getStatus();
+            if (status != JobPosting.Status.ACTIVE && status != JobPosting.Status.FILLED) {
+                throw new RuntimeException("Job posting is not active");
+            }
+            throw new RuntimeException("All positions for this job have been filled");
         }
-        jobPostingRepository.save(job);
+        if (jobPostingRepository.markFilledIfFull(id, JobPosting.Status.ACTIVE, JobPosting.Status.FILLED) > 0) {
+            dashboardStatsService.jobStatusChanged(JobPosting.Status.ACTIVE, JobPosting.Status.FILLED);
+        }
+        activeJobsCache.invalidate();
+        reindex(id);
     }
     
     @Transactional
     public void deleteJobPosting(Long id) {
-        jobPostingRepository.deleteById(id);
+        jobPostingRepository.findById(id).ifPresent(job -> {
+            jobPostingRepository.delete(job);
+            dashboardStatsService.jobDeleted(job);
+            activeJobsCache.invalidate();
+            reindex(id);
+        });
+    }
+    
+    // The in-memory indexes pick up a write once it commits, from a single re-read of the posting
+    private void reindex(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadIndexes(id);
+                }
+            });
+        } else {
+            reloadIndexes(id);
+        }
+    }
+    
+    private void reloadIndexes(Long id) {
+        JobPostingView job = jobPostingRepository.findViewById(id).orElse(null);
+        jobSearchIndex.update(id, job);
+        jobFacetIndex.update(id, job);
     }
 }
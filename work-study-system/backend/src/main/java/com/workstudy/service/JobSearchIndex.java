@@ -0,0 +1,291 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.JobPostingView;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.repository.JobPostingRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over job title, description, department and location,
+ * so job search never touches the database. Every query term must match a word
+ * of the posting, either exactly or as a prefix; postings are ranked by TF-IDF
+ * with title matches counting most. JobPostingService re-indexes a posting after
+ * each write commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+    
+    private static final float TITLE_WEIGHT = 4f;
+    private static final float DEPARTMENT_WEIGHT = 2f;
+    private static final float LOCATION_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    // A word that only starts with the query term is a weaker match than the word itself
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MAX_QUERY_TERMS = 10;
+    
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    
+    private final JobPostingRepository jobPostingRepository;
+    
+    // Postings refer to documents by slot, a dense int that is reused after a delete
+    private final List<Document> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final NavigableMap<String, Postings> postings = new TreeMap<>();
+    // A lock rather than synchronized, so a waiting search does not pin a virtual thread's carrier
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private record Document(JobPostingView job, Map<String, Float> terms) {
+    }
+    
+    // The slots containing a term, with the term's weighted frequency in each
+    private record Postings(int[] slots, float[] frequencies) {
+        Postings with(int slot, float frequency) {
+            int size = slots.length;
+            int[] newSlots = Arrays.copyOf(slots, size + 1);
+            float[] newFrequencies = Arrays.copyOf(frequencies, size + 1);
+            newSlots[size] = slot;
+            newFrequencies[size] = frequency;
+            return new Postings(newSlots, newFrequencies);
+        }
+        
+        Postings without(int slot) {
+            int[] newSlots = new int[slots.length - 1];
+            float[] newFrequencies = new float[slots.length - 1];
+            for (int i = 0, j = 0; i < slots.length; i++) {
+                if (slots[i] != slot) {
+                    newSlots[j] = slots[i];
+                    newFrequencies[j++] = frequencies[i];
+                }
+            }
+            return new Postings(newSlots, newFrequencies);
+        }
+    }
+    
+    private record Hit(int slot, long id, double score) implements Comparable<Hit> {
+        // Lower score first, so the heap of best hits can drop its weakest; ties go to newer postings
+        @Override
+        public int compareTo(Hit other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(id, other.id);
+        }
+    }
+    
+    // Loaded once startup completes, after the seed and load-test data are written
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        List<JobPostingView> jobs = jobPostingRepository.findAllViews();
+        Map<String, List<Integer>> terms = new HashMap<>();
+        List<Document> documents = new ArrayList<>(jobs.size());
+        for (JobPostingView job : jobs) {
+            Document document = document(job);
+            for (String term : document.terms().keySet()) {
+                terms.computeIfAbsent(term, t -> new ArrayList<>()).add(documents.size());
+            }
+            documents.add(document);
+        }
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            freeSlots.clear();
+            slotsById.clear();
+            postings.clear();
+            slots.addAll(documents);
+            for (int slot = 0; slot < documents.size(); slot++) {
+                slotsById.put(documents.get(slot).job().id(), slot);
+            }
+            terms.forEach((term, termSlots) -> {
+                int[] slotArray = termSlots.stream().mapToInt(Integer::intValue).toArray();
+                float[] frequencies = new float[slotArray.length];
+                for (int i = 0; i < slotArray.length; i++) {
+                    frequencies[i] = documents.get(slotArray[i]).terms().get(term);
+                }
+                postings.put(term, new Postings(slotArray, frequencies));
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Indexed {} job postings ({} terms) in {} ms", jobs.size(), terms.size(),
+                System.currentTimeMillis() - started);
+    }
+    
+    /**
+     * Replaces the indexed copy of a posting; {@code job} is null when it was deleted.
+     */
+    public void update(Long id, JobPostingView job) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+            if (job != null) {
+                add(document(job));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns up to {@code limit} postings matching every term of {@code query},
+     * best match first, optionally restricted to one status.
+     */
+    public List<JobPostingView> search(String query, JobPosting.Status status, int limit) {
+        List<String> terms = tokenize(query).stream().distinct().limit(MAX_QUERY_TERMS).toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            // The first term's matches are the only candidates; each later term narrows them
+            Map<Integer, Double> candidates = null;
+            for (String term : terms) {
+                Map<Integer, Double> termScores = scoreTerm(term, candidates);
+                if (termScores.isEmpty()) {
+                    return List.of();
+                }
+                if (candidates != null) {
+                    Map<Integer, Double> previous = candidates;
+                    termScores.replaceAll((slot, score) -> score + previous.get(slot));
+                }
+                candidates = termScores;
+            }
+            PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1);
+            for (Map.Entry<Integer, Double> candidate : candidates.entrySet()) {
+                JobPostingView job = slots.get(candidate.getKey()).job();
+                if (status != null && job.status() != status) {
+                    continue;
+                }
+                Hit hit = new Hit(candidate.getKey(), job.id(), candidate.getValue());
+                if (best.size() < limit) {
+                    best.add(hit);
+                } else if (hit.compareTo(best.peek()) > 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+            }
+            List<JobPostingView> results = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                results.add(slots.get(best.poll().slot()).job());
+            }
+            return results.reversed();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Scores one query term for each of {@code candidates}, or for every posting
+     * containing it when there are none yet, taking the best of the term itself and
+     * the words it is a prefix of. Slots that do not contain the term are left out.
+     */
+    private Map<Integer, Double> scoreTerm(String term, Map<Integer, Double> candidates) {
+        Map<Integer, Double> termScores = new HashMap<>();
+        int expansions = 0;
+        int documents = slotsById.size();
+        NavigableMap<String, Postings> words = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+        for (Map.Entry<String, Postings> entry : words.entrySet()) {
+            if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            Postings matches = entry.getValue();
+            double weight = Math.log(1 + (double) documents / matches.slots().length)
+                    * (entry.getKey().equals(term) ? 1 : PREFIX_MATCH_FACTOR);
+            for (int i = 0; i < matches.slots().length; i++) {
+                int slot = matches.slots()[i];
+                if (candidates == null || candidates.containsKey(slot)) {
+                    termScores.merge(slot, Math.sqrt(matches.frequencies()[i]) * weight, Math::max);
+                }
+            }
+        }
+        return termScores;
+    }
+    
+    private void add(Document document) {
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = slots.size();
+            slots.add(document);
+        } else {
+            slot = freeSlots.pop();
+            slots.set(slot, document);
+        }
+        slotsById.put(document.job().id(), slot);
+        document.terms().forEach((term, frequency) -> {
+            Postings existing = postings.get(term);
+            postings.put(term, existing == null
+                    ? new Postings(new int[]{slot}, new float[]{frequency})
+                    : existing.with(slot, frequency));
+        });
+    }
+    
+    private void remove(Long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        for (String term : slots.get(slot).terms().keySet()) {
+            Postings remaining = postings.get(term).without(slot);
+            if (remaining.slots().length == 0) {
+                postings.remove(term);
+            } else {
+                postings.put(term, remaining);
+            }
+        }
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+    
+    private static Document document(JobPostingView job) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, job.title(), TITLE_WEIGHT);
+        addTerms(terms, job.department(), DEPARTMENT_WEIGHT);
+        addTerms(terms, job.location(), LOCATION_WEIGHT);
+        addTerms(terms, job.description(), DESCRIPTION_WEIGHT);
+        return new Document(job, terms);
+    }
+    
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String term : tokenize(text)) {
+            terms.merge(term, weight, Float::sum);
+        }
+    }
+    
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
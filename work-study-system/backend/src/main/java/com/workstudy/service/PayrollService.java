@@ -0,0 +1,166 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.CursorPage;
+import com.workstudy.dto.PayrollAggregate;
+import com.workstudy.dto.PayrollLineView;
+import com.workstudy.dto.PayrollRunRequest;
+import com.workstudy.dto.PayrollRunView;
+import com.workstudy.dto.UserSummary;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.entity.PayrollLine;
+import com.workstudy.entity.PayrollRun;
+import com.workstudy.entity.User;
+import com.workstudy.entity.WorkHours;
+import com.workstudy.repository.PayrollLineRepository;
+import com.workstudy.repository.PayrollRunRepository;
+import com.workstudy.repository.UserRepository;
+import com.workstudy.repository.WorkHoursRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Turns approved work hours into gross pay. Hours are summed per student and job
+ * in SQL, one query per department, with the departments spread over a dedicated
+ * fork-join pool. A run and its lines are written once and never updated.
+ */
+@Service
+@RequiredArgsConstructor
+public class PayrollService {
+    private static final Logger logger = LoggerFactory.getLogger(PayrollService.class);
+    
+    private static final int FLUSH_SIZE = 1000;
+    
+    private final WorkHoursRepository workHoursRepository;
+    private final PayrollRunRepository payrollRunRepository;
+    private final PayrollLineRepository payrollLineRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ForkJoinPool payrollPool;
+    
+    public PayrollRunView createRun(PayrollRunRequest request, User admin) {
+        long started = System.currentTimeMillis();
+        LocalDate start = request.getPeriodStart();
+        LocalDate end = request.getPeriodEnd();
+    
+        List<ForkJoinTask<List<PayrollAggregate>>> tasks = workHoursRepository
+                .findDepartmentsWithHours(WorkHours.Status.APPROVED, start, end).stream()
+                .map(department -> payrollPool.submit(() -> workHoursRepository.sumPayrollHoursByDepartment(
+                        department, WorkHours.Status.APPROVED, start, end)))
+                .toList();
+        List<PayrollAggregate> aggregates = new ArrayList<>();
+        for (ForkJoinTask<List<PayrollAggregate>> task : tasks) {
+            aggregates.addAll(task.join());
+        }
+    
+        Set<Long> students = new HashSet<>();
+        BigDecimal totalHours = BigDecimal.ZERO;
+        BigDecimal totalGross = BigDecimal.ZERO;
+        for (PayrollAggregate aggregate : aggregates) {
+            students.add(aggregate.studentId());
+            totalHours = totalHours.add(aggregate.hours());
+            totalGross = totalGross.add(grossPay(aggregate.hours(), aggregate.hourlyRate()));
+        }
+        long computed = System.currentTimeMillis();
+    
+        PayrollRun run = new PayrollRun(null, start, end, admin, (long) students.size(), (long) aggregates.size(),
+                totalHours, totalGross, computed - started, LocalDateTime.now());
+        PayrollRun saved = transactionTemplate.execute(tx -> {
+            PayrollRun persisted = payrollRunRepository.save(run);
+            insertLines(persisted, aggregates, 1);
+            return persisted;
+        });
+        logger.info("Payroll run {} for {} to {}: {} students, {} lines, computed in {} ms, stored in {} ms",
+                saved.getId(), start, end, students.size(), aggregates.size(), computed - started,
+                System.currentTimeMillis() - computed);
+        return PayrollRunView.from(saved, UserSummary.from(admin));
+    }
+    
+    /**
+     * Recomputes one student's lines for the run's pay period and stores them as
+     * the student's next revision. Jobs that no longer have approved hours get a
+     * zero line so the earlier revision stops counting for them.
+     */
+    public List<PayrollLineView> recomputeStudent(Long runId, Long studentId) {
+        PayrollRunView run = payrollRunRepository.findViewById(runId)
+                .orElseThrow(() -> new RuntimeException("Payroll run not found"));
+        // The student's row is locked first, so concurrent recomputes of one student
+        // read the latest revision one after another instead of both writing the next
+        return transactionTemplate.execute(tx -> {
+            userRepository.findByIdForUpdate(studentId)
+                    .filter(user -> user.getRole() == User.Role.STUDENT)
+                    .orElseThrow(() -> new RuntimeException("Student not found"));
+            List<PayrollAggregate> aggregates = new ArrayList<>(workHoursRepository.sumPayrollHoursByStudent(
+                    studentId, WorkHours.Status.APPROVED, run.periodStart(), run.periodEnd()));
+            Set<Long> jobs = new HashSet<>();
+            aggregates.forEach(aggregate -> jobs.add(aggregate.jobId()));
+            for (PayrollLineView line : payrollLineRepository.findCurrentViewsByStudent(runId, studentId)) {
+                if (jobs.add(line.job().id())) {
+                    aggregates.add(new PayrollAggregate(studentId, line.job().id(), line.department(),
+                            line.hourlyRate(), BigDecimal.ZERO));
+                }
+            }
+            
+            insertLines(entityManager.getReference(PayrollRun.class, runId), aggregates,
+                    payrollLineRepository.findLatestRevision(runId, studentId) + 1);
+            return payrollLineRepository.findCurrentViewsByStudent(runId, studentId);
+        });
+    }
+    
+    public PayrollRunView findById(Long id) {
+        PayrollRunView run = payrollRunRepository.findViewById(id)
+                .orElseThrow(() -> new RuntimeException("Payroll run not found"));
+        return run.withCurrent(payrollLineRepository.sumCurrent(id));
+    }
+    
+    public CursorPage<PayrollRunView> findAll(String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit, payrollRunRepository::findViews, PayrollRunView::id);
+    }
+    
+    public CursorPage<PayrollLineView> findLines(Long runId, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                (after, max) -> payrollLineRepository.findCurrentViews(runId, after, max),
+                PayrollLineView::id);
+    }
+    
+    public List<PayrollLineView> findStudentLines(Long runId, Long studentId) {
+        return payrollLineRepository.findCurrentViewsByStudent(runId, studentId);
+    }
+    
+    private void insertLines(PayrollRun run, List<PayrollAggregate> aggregates, int revision) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < aggregates.size(); i++) {
+            PayrollAggregate aggregate = aggregates.get(i);
+            entityManager.persist(new PayrollLine(null, run,
+                    entityManager.getReference(User.class, aggregate.studentId()),
+                    entityManager.getReference(JobPosting.class, aggregate.jobId()),
+                    aggregate.department(), aggregate.hours(), aggregate.hourlyRate(),
+                    grossPay(aggregate.hours(), aggregate.hourlyRate()), revision, now));
+            if ((i + 1) % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    static BigDecimal grossPay(BigDecimal hours, BigDecimal hourlyRate) {
+        return hours.multiply(hourlyRate).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,59 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.WorkHoursShift;
+
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The shifts of one student on one day, sorted by start time with a running
+ * maximum of end times, so an overlapping shift is found with a binary search
+ * instead of comparing against every entry. Ranges are half-open, so a shift
+ * may start exactly when another ends, and must end after they start; reversed
+ * entries, which only older data can hold, are left out rather than letting them
+ * distort the running maximum.
+ */
+class ShiftIntervals {
+    private final WorkHoursShift[] shifts;
+    // latest[i] is the shift with the latest end among shifts[0..i]
+    private final WorkHoursShift[] latest;
+    
+    ShiftIntervals(List<WorkHoursShift> day) {
+        shifts = day.stream()
+                .filter(shift -> isRange(shift.startTime(), shift.endTime()))
+                .sorted(Comparator.comparing(WorkHoursShift::startTime))
+                .toArray(WorkHoursShift[]::new);
+        latest = new WorkHoursShift[shifts.length];
+        for (int i = 0; i < shifts.length; i++) {
+            latest[i] = i > 0 && latest[i - 1].endTime().isAfter(shifts[i].endTime()) ? latest[i - 1] : shifts[i];
+        }
+    }
+    
+    static boolean isRange(LocalTime start, LocalTime end) {
+        return start.isBefore(end);
+    }
+    
+    Optional<WorkHoursShift> findOverlap(LocalTime start, LocalTime end) {
+        if (!isRange(start, end)) {
+            throw new IllegalArgumentException("A shift must end after it starts");
+        }
+        // Only shifts that start before the new one ends can overlap it
+        int low = 0;
+        int high = shifts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (shifts[mid].startTime().isBefore(end)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == 0) {
+            return Optional.empty();
+        }
+        WorkHoursShift candidate = latest[low - 1];
+        return candidate.endTime().isAfter(start) ? Optional.of(candidate) : Optional.empty();
+    }
+}
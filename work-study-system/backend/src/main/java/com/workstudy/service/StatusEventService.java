@@ -0,0 +1,282 @@
+package com.workstudy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workstudy.dto.StatusBatchEvent;
+import com.workstudy.dto.StatusChangeEvent;
+import com.workstudy.dto.WorkHoursStatusSnapshot;
+import com.workstudy.security.TokenEpochs;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes status changes to connected users over Server-Sent Events. An idle
+ * connection is an async request with no thread attached. Each subscriber has a
+ * small bounded buffer drained on a virtual thread, so a slow client never holds
+ * up the publisher or other clients; one that lets its buffer fill up is
+ * disconnected and reloads its data when it reconnects.
+ */
+@Service
+public class StatusEventService {
+    private static final Logger logger = LoggerFactory.getLogger(StatusEventService.class);
+    
+    private static final String EVENT_NAME = "status";
+    private static final String BATCH_EVENT_NAME = "status-batch";
+    
+    private final ObjectMapper objectMapper;
+    private final TokenEpochs tokenEpochs;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final Map<Long, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+    private final Set<Subscriber> admins = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong connections = new AtomicLong();
+    private final Counter dropped;
+    
+    public StatusEventService(@Value("${sse.timeout:30m}") Duration timeout,
+                              @Value("${sse.buffer-size:32}") int bufferSize,
+                              ObjectMapper objectMapper,
+                              TokenEpochs tokenEpochs,
+                              MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.tokenEpochs = tokenEpochs;
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        meterRegistry.gauge("workstudy.sse.connections", connections);
+        this.dropped = meterRegistry.counter("workstudy.sse.dropped");
+    }
+    
+    public SseEmitter subscribe(Long userId, boolean admin) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // Queued in the emitter until the request thread initializes it, so the response is committed
+        // there, while Spring Security may still be writing headers, and not on a sender thread
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        Subscriber subscriber = new Subscriber(userId, admin, tokenEpochs.current(userId), emitter);
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::remove);
+        emitter.onError(e -> subscriber.remove());
+        // Added inside compute, so a concurrent remove() of the user's last stream cannot drop the set first
+        subscribersByUser.compute(userId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        if (admin) {
+            admins.add(subscriber);
+        }
+        connections.incrementAndGet();
+        return emitter;
+    }
+    
+    // ── Write-path hooks ───────────────────────────────────────
+    
+    public void applicationStatusChanged(Long id, Long studentId, Enum<?> oldStatus, Enum<?> newStatus) {
+        statusChanged(StatusChangeEvent.Subject.APPLICATION, id, studentId, oldStatus, newStatus);
+    }
+    
+    public void workHoursStatusChanged(Long id, Long studentId, Enum<?> oldStatus, Enum<?> newStatus) {
+        statusChanged(StatusChangeEvent.Subject.WORK_HOURS, id, studentId, oldStatus, newStatus);
+    }
+    
+    /**
+     * A bulk status update of work hours. Each student gets one event listing their
+     * entries and each admin one event listing them all, instead of one per entry.
+     */
+    public void workHoursStatusesChanged(Collection<WorkHoursStatusSnapshot> before, Enum<?> newStatus) {
+        Map<Long, List<Long>> idsByStudent = new HashMap<>();
+        List<Long> ids = new ArrayList<>(before.size());
+        for (WorkHoursStatusSnapshot snapshot : before) {
+            idsByStudent.computeIfAbsent(snapshot.studentId(), id -> new ArrayList<>()).add(snapshot.id());
+            ids.add(snapshot.id());
+        }
+        LocalDateTime changedAt = LocalDateTime.now();
+        afterCommit(() -> publishBatch(idsByStudent,
+                new StatusBatchEvent(StatusChangeEvent.Subject.WORK_HOURS, ids, newStatus.name(), changedAt)));
+    }
+    
+    private void statusChanged(StatusChangeEvent.Subject subject, Long id, Long studentId,
+                               Enum<?> oldStatus, Enum<?> newStatus) {
+        StatusChangeEvent event = new StatusChangeEvent(subject, id, studentId, newStatus.name(),
+                oldStatus != null ? oldStatus.name() : null, LocalDateTime.now());
+        afterCommit(() -> publish(event));
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    // The event is serialized once, however many subscribers receive it
+    private void publish(StatusChangeEvent event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> message = message(EVENT_NAME, event);
+        if (message == null) {
+            return;
+        }
+        Set<Subscriber> student = subscribersByUser.get(event.studentId());
+        if (student != null) {
+            student.forEach(subscriber -> subscriber.offer(message));
+        }
+        admins.forEach(subscriber -> {
+            if (!subscriber.userId.equals(event.studentId())) {
+                subscriber.offer(message);
+            }
+        });
+    }
+    
+    private void publishBatch(Map<Long, List<Long>> idsByStudent, StatusBatchEvent all) {
+        idsByStudent.forEach((studentId, ids) -> {
+            Set<Subscriber> student = subscribersByUser.get(studentId);
+            if (student == null) {
+                return;
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> message = message(BATCH_EVENT_NAME,
+                    new StatusBatchEvent(all.subject(), ids, all.status(), all.changedAt()));
+            if (message != null) {
+                student.forEach(subscriber -> {
+                    if (!subscriber.admin) {
+                        subscriber.offer(message);
+                    }
+                });
+            }
+        });
+        if (!admins.isEmpty()) {
+            Set<ResponseBodyEmitter.DataWithMediaType> message = message(BATCH_EVENT_NAME, all);
+            if (message != null) {
+                admins.forEach(subscriber -> subscriber.offer(message));
+            }
+        }
+    }
+    
+    private Set<ResponseBodyEmitter.DataWithMediaType> message(String name, Object event) {
+        try {
+            return SseEmitter.event()
+                    .id(Long.toString(eventIds.incrementAndGet()))
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize status event {}", event, e);
+            return null;
+        }
+    }
+    
+    // Keeps idle connections open through proxies, finds clients that went away and
+    // closes streams of users whose tokens were revoked since they connected
+    @Scheduled(fixedRateString = "${sse.heartbeat-interval:25000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribersByUser.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (tokenEpochs.current(subscriber.userId) != subscriber.tokenEpoch) {
+                subscriber.remove();
+                subscriber.emitter.complete();
+            } else {
+                subscriber.offer(ping);
+            }
+        }));
+    }
+    
+    private class Subscriber {
+        private final Long userId;
+        private final boolean admin;
+        private final int tokenEpoch;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        
+        Subscriber(Long userId, boolean admin, int tokenEpoch, SseEmitter emitter) {
+            this.userId = userId;
+            this.admin = admin;
+            this.tokenEpoch = tokenEpoch;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+        
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (removed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                dropped.increment();
+                logger.debug("Dropping slow event subscriber for user {}", userId);
+                remove();
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+        
+        // At most one drain runs per subscriber, so events are sent in order
+        private void drain() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while ((event = buffer.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        remove();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!buffer.isEmpty() && draining.compareAndSet(false, true));
+        }
+        
+        void remove() {
+            if (!removed.compareAndSet(false, true)) {
+                return;
+            }
+            buffer.clear();
+            subscribersByUser.computeIfPresent(userId, (id, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            if (admin) {
+                admins.remove(this);
+            }
+            connections.decrementAndGet();
+        }
+    }
+}
@@ -3,10 +3,12 @@ package com.workstudy.service;
 import com.workstudy.dto.RegisterRequest;
 import com.workstudy.entity.User;
 import com.workstudy.repository.UserRepository;
+import com.workstudy.security.TokenEpochs;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -15,49 +17,50 @@ import java.util.List;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DashboardStatsService dashboardStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenEpochs tokenEpochs;
     
-    @Transactional
     public User createStudent(RegisterRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new RuntimeException("Username already exists");
-        }
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already exists");
-        }
-        
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setEmail(request.getEmail());
-        user.setFullName(request.getFullName());
-        user.setPhone(request.getPhone());
-        user.setDepartment(request.getDepartment());
-        user.setRole(User.Role.STUDENT);
-        user.setActive(true);
-        
-        return userRepository.save(user);
+        return create(request, User.Role.STUDENT);
     }
     
-    @Transactional
     public User createAdmin(RegisterRequest request) {
+        return create(request, User.Role.ADMIN);
+    }
+    
+    // Hashed before the transaction starts, so no connection is held while waiting for the hash pool.
+    // Duplicates are turned away before hashing too, so they spend no hash pool time; the check is
+    // repeated in the transaction and the unique constraints settle a race between the two
+    private User create(RegisterRequest request, User.Role role) {
+        checkUnique(request);
+        String password = passwordEncoder.encode(request.getPassword());
+        return transactionTemplate.execute(tx -> {
+            checkUnique(request);
+            
+            User user = new User();
+            user.setUsername(request.getUsername());
+            user.setPassword(password);
+            user.setEmail(request.getEmail());
+            user.setFullName(request.getFullName());
+            user.setPhone(request.getPhone());
+            user.setDepartment(request.getDepartment());
+            user.setRole(role);
+            user.setActive(true);
+            
+            User saved = userRepository.save(user);
+            dashboardStatsService.userCreated(saved);
+            return saved;
+        });
+    }
+    
+    private void checkUnique(RegisterRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new RuntimeException("Username already exists");
         }
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
-        
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setEmail(request.getEmail());
-        user.setFullName(request.getFullName());
-        user.setPhone(request.getPhone());
-        user.setDepartment(request.getDepartment());
-        user.setRole(User.Role.ADMIN);
-        user.setActive(true);
-        
-        return userRepository.save(user);
     }
     
     public User findByUsername(String username) {
@@ -70,6 +73,10 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
     
+    public User getReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+    
     public List<User> findAllStudents() {
         return userRepository.findAll().stream()
                 .filter(u -> u.getRole() == User.Role.STUDENT)
@@ -93,9 +100,27 @@ public class UserService {
     }
     
     @Transactional
-    public void deactivateUser(Long id) {
+    public User deactivateUser(Long id) {
         User user = findById(id);
         user.setActive(false);
-        userRepository.save(user);
+        return revokeTokens(userRepository.save(user));
+    }
+    
+    @Transactional
+    public User changeRole(Long id, User.Role role) {
+        User user = findById(id);
+        if (user.getRole() == role) {
+            return user;
+        }
+        dashboardStatsService.roleChanged(user.getRole(), role);
+        user.setRole(role);
+        return revokeTokens(userRepository.save(user));
+    }
+    
+    // Tokens carry the role and are checked only against the epoch, so both changes must revoke them
+    private User revokeTokens(User user) {
+        user.setTokenEpoch(user.getTokenEpoch() + 1);
+        tokenEpochs.bumped(user.getId(), user.getTokenEpoch());
+        return user;
     }
 }
@@ -0,0 +1,323 @@
+package com.workstudy.service;
+
+import com.workstudy.csv.CsvReader;
+import com.workstudy.dto.WorkHoursImportEvent;
+import com.workstudy.dto.WorkHoursShift;
+import com.workstudy.entity.User;
+import com.workstudy.entity.WorkHours;
+import com.workstudy.repository.JobPostingRepository;
+import com.workstudy.repository.UserRepository;
+import com.workstudy.repository.WorkHoursRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Imports departmental timesheets from CSV. The file is parsed as a stream and
+ * valid rows are inserted in chunks, each in its own transaction, so memory use
+ * depends on the chunk and lookup-cache sizes rather than on the file size.
+ * Rejected rows and progress are reported as they happen instead of being
+ * collected.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkHoursImportService {
+    private static final Logger logger = LoggerFactory.getLogger(WorkHoursImportService.class);
+    
+    private static final int CHUNK_SIZE = 500;
+    private static final int LOOKUP_CACHE_SIZE = 10_000;
+    
+    private static final String STUDENT_ID = "studentId";
+    private static final String USERNAME = "username";
+    private static final String JOB_ID = "jobId";
+    private static final String WORK_DATE = "workDate";
+    private static final String START_TIME = "startTime";
+    private static final String END_TIME = "endTime";
+    private static final String DESCRIPTION = "description";
+    
+    private final WorkHoursRepository workHoursRepository;
+    private final UserRepository userRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    
+    /**
+     * Reads a CSV with a header row naming the columns {@code jobId}, {@code workDate},
+     * {@code startTime}, {@code endTime}, optionally {@code description}, and either
+     * {@code studentId} or {@code username}. Entries are created as PENDING. As in
+     * {@code logWorkHours}, each row must fit in the job's weekly hour limit and must not
+     * overlap another shift of the student that day, counting committed entries and
+     * earlier rows of the file. Returns the final summary, which is also passed to
+     * {@code events}.
+     */
+    public WorkHoursImportEvent importCsv(Reader reader, Consumer<WorkHoursImportEvent> events) throws IOException {
+        Import run = new Import(new CsvReader(reader), events);
+        run.readHeader();
+        long started = System.currentTimeMillis();
+        WorkHoursImportEvent summary = run.execute();
+        logger.info("Timesheet import {}: {} rows read, {} imported, {} failed in {} ms",
+                summary.type(), summary.rowsRead(), summary.imported(), summary.failed(),
+                System.currentTimeMillis() - started);
+        return summary;
+    }
+    
+    private record Row(long line, Long studentId, Long jobId, int maxHoursPerWeek, LocalDate workDate,
+                       LocalTime startTime, LocalTime endTime, BigDecimal hours, String description) {
+    }
+    
+    private record Week(Long studentId, Long jobId, LocalDate start) {
+    }
+    
+    private record Day(Long studentId, LocalDate date) {
+    }
+    
+    private static class RowException extends RuntimeException {
+        RowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+    
+    private class Import {
+        private final CsvReader csv;
+        private final Consumer<WorkHoursImportEvent> events;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private int width;
+        private final Map<String, Optional<Long>> studentsByUsername = lruCache();
+        private final Map<Long, Boolean> students = lruCache();
+        private final Map<Long, Optional<Integer>> maxHoursByJob = lruCache();
+        private final List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        private long rowsRead;
+        private long imported;
+        private long failed;
+    
+        Import(CsvReader csv, Consumer<WorkHoursImportEvent> events) {
+            this.csv = csv;
+            this.events = events;
+        }
+    
+        void readHeader() throws IOException {
+            List<String> header = csv.next();
+            if (header == null) {
+                throw new RuntimeException("The timesheet file is empty");
+            }
+            width = header.size();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(key(header.get(i)), i);
+            }
+            for (String required : List.of(JOB_ID, WORK_DATE, START_TIME, END_TIME)) {
+                if (!hasColumn(required)) {
+                    throw new RuntimeException("The timesheet header is missing the " + required + " column");
+                }
+            }
+            if (!hasColumn(STUDENT_ID) && !hasColumn(USERNAME)) {
+                throw new RuntimeException("The timesheet header needs a studentId or username column");
+            }
+        }
+    
+        WorkHoursImportEvent execute() throws IOException {
+            try {
+                List<String> record;
+                while ((record = csv.next()) != null) {
+                    rowsRead++;
+                    try {
+                        chunk.add(parse(csv.getLine(), record));
+                    } catch (RowException e) {
+                        reject(csv.getLine(), e.getMessage());
+                    }
+                    if (chunk.size() == CHUNK_SIZE) {
+                        flush();
+                    }
+                }
+                flush();
+            } catch (RuntimeException e) {
+                flush();
+                WorkHoursImportEvent aborted = progress(WorkHoursImportEvent.Type.ABORTED)
+                        .withMessage("Import stopped: " + e.getMessage());
+                events.accept(aborted);
+                return aborted;
+            }
+            WorkHoursImportEvent completed = progress(WorkHoursImportEvent.Type.COMPLETED);
+            events.accept(completed);
+            return completed;
+        }
+    
+        private Row parse(long line, List<String> record) {
+            if (record.size() != width) {
+                throw new RowException("Expected " + width + " columns but found " + record.size());
+            }
+            Long studentId = resolveStudent(record);
+            Long jobId = parseLong(record, JOB_ID);
+            int maxHoursPerWeek = maxHoursByJob.computeIfAbsent(jobId, jobPostingRepository::findMaxHoursPerWeekById)
+                    .orElseThrow(() -> new RowException("Job posting " + jobId + " not found"));
+            LocalDate workDate = parse(record, WORK_DATE, LocalDate::parse);
+            LocalTime startTime = parse(record, START_TIME, LocalTime::parse);
+            LocalTime endTime = parse(record, END_TIME, LocalTime::parse);
+            if (!endTime.isAfter(startTime)) {
+                throw new RowException("endTime must be after startTime");
+            }
+            String description = hasColumn(DESCRIPTION) ? value(record, DESCRIPTION) : null;
+            if (description != null && description.length() > 1000) {
+                throw new RowException("description is longer than 1000 characters");
+            }
+            return new Row(line, studentId, jobId, maxHoursPerWeek, workDate, startTime, endTime,
+                    WorkHoursService.hoursBetween(startTime, endTime), description);
+        }
+    
+        private Long resolveStudent(List<String> record) {
+            if (hasColumn(STUDENT_ID)) {
+                Long studentId = parseLong(record, STUDENT_ID);
+                if (!students.computeIfAbsent(studentId, id -> userRepository.existsByIdAndRole(id, User.Role.STUDENT))) {
+                    throw new RowException("Student " + studentId + " not found");
+                }
+                return studentId;
+            }
+            String username = value(record, USERNAME);
+            if (username == null) {
+                throw new RowException("username is required");
+            }
+            return studentsByUsername
+                    .computeIfAbsent(username, name -> userRepository.findIdByUsernameAndRole(name, User.Role.STUDENT))
+                    .orElseThrow(() -> new RowException("Student " + username + " not found"));
+        }
+    
+        private Long parseLong(List<String> record, String column) {
+            return parse(record, column, Long::valueOf);
+        }
+    
+        private <T> T parse(List<String> record, String column, Function<String, T> parser) {
+            String value = value(record, column);
+            if (value == null) {
+                throw new RowException(column + " is required");
+            }
+            try {
+                return parser.apply(value);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new RowException("Invalid " + column + " '" + value + "'");
+            }
+        }
+    
+        private String value(List<String> record, String column) {
+            String value = record.get(columns.get(key(column))).trim();
+            return value.isEmpty() ? null : value;
+        }
+    
+        private boolean hasColumn(String column) {
+            return columns.containsKey(key(column));
+        }
+        
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                Map<Row, String> invalid = transactionTemplate.execute(tx -> {
+                    // Locked in id order, like logWorkHours locks a student, so entries of these
+                    // students cannot change while the chunk is checked
+                    chunk.stream().map(Row::studentId).distinct().sorted().forEach(userRepository::findByIdForUpdate);
+                    Map<Row, String> problems = new LinkedHashMap<>();
+                    List<WorkHours> valid = new ArrayList<>(chunk.size());
+                    Map<Week, BigDecimal> logged = new HashMap<>();
+                    Map<Day, List<WorkHoursShift>> shifts = new HashMap<>();
+                    for (Row row : chunk) {
+                        String problem = check(row, logged, shifts);
+                        if (problem != null) {
+                            problems.put(row, problem);
+                        } else {
+                            valid.add(toEntity(row));
+                        }
+                    }
+                    workHoursRepository.saveAll(valid);
+                    // The request may share one persistence context across chunks (open-in-view)
+                    entityManager.flush();
+                    entityManager.clear();
+                    return problems;
+                });
+                imported += chunk.size() - invalid.size();
+                invalid.forEach((row, problem) -> reject(row.line(), problem));
+            } catch (RuntimeException e) {
+                for (Row row : chunk) {
+                    reject(row.line(), "Insert failed: " + e.getMessage());
+                }
+            }
+            chunk.clear();
+            events.accept(progress(WorkHoursImportEvent.Type.PROGRESS));
+        }
+    
+        // Earlier chunks are committed, so the database holds the file's earlier rows except
+        // those of this chunk, which are added to the week's total and the day's shifts as
+        // they are accepted
+        private String check(Row row, Map<Week, BigDecimal> logged, Map<Day, List<WorkHoursShift>> shifts) {
+            LocalDate weekStart = WorkHoursService.weekStart(row.workDate());
+            Week week = new Week(row.studentId(), row.jobId(), weekStart);
+            BigDecimal before = logged.computeIfAbsent(week, key -> workHoursRepository.sumHoursWorkedForWeek(
+                    key.studentId(), key.jobId(), key.start(), key.start().plusDays(6), WorkHours.Status.REJECTED, -1L));
+            String exceeded = WorkHoursService.exceedsWeeklyLimit(before, row.hours(), row.maxHoursPerWeek(), weekStart);
+            if (exceeded != null) {
+                return exceeded;
+            }
+            List<WorkHoursShift> day = shifts.computeIfAbsent(new Day(row.studentId(), row.workDate()), key ->
+                    new ArrayList<>(workHoursRepository.findShifts(key.studentId(), key.date(), WorkHours.Status.REJECTED, -1L)));
+            Optional<WorkHoursShift> overlap = new ShiftIntervals(day).findOverlap(row.startTime(), row.endTime());
+            if (overlap.isPresent()) {
+                return WorkHoursService.overlapsEntry(row.workDate(), overlap.get());
+            }
+            logged.put(week, before.add(row.hours()));
+            day.add(new WorkHoursShift(null, row.studentId(), row.jobId(), row.workDate(), row.startTime(), row.endTime()));
+            return null;
+        }
+        
+        private WorkHours toEntity(Row row) {
+            WorkHours workHours = new WorkHours();
+            workHours.setStudent(userRepository.getReferenceById(row.studentId()));
+            workHours.setJob(jobPostingRepository.getReferenceById(row.jobId()));
+            workHours.setWorkDate(row.workDate());
+            workHours.setStartTime(row.startTime());
+            workHours.setEndTime(row.endTime());
+            workHours.setHoursWorked(row.hours());
+            workHours.setDescription(row.description());
+            workHours.setStatus(WorkHours.Status.PENDING);
+            return workHours;
+        }
+    
+        private void reject(long line, String message) {
+            failed++;
+            events.accept(WorkHoursImportEvent.error(line, message));
+        }
+    
+        private WorkHoursImportEvent progress(WorkHoursImportEvent.Type type) {
+            return WorkHoursImportEvent.progress(type, rowsRead, imported, failed);
+        }
+    }
+    
+    private static String key(String column) {
+        return column.trim().toLowerCase(Locale.ROOT).replace("_", "");
+    }
+    
+    private static <K, V> Map<K, V> lruCache() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LOOKUP_CACHE_SIZE;
+            }
+        };
+    }
+}
@@ -1,34 +1,68 @@
 package com.workstudy.service;
 
+import com.workstudy.dto.CursorPage;
+import com.workstudy.dto.DailyHoursTotal;
+import com.workstudy.dto.JobHoursTotal;
+import com.workstudy.dto.StatusHoursTotal;
+import com.workstudy.dto.StudentHoursTotal;
+import com.workstudy.dto.WeeklyHoursTotal;
+import com.workstudy.dto.WorkHoursBatchResult;
+import com.workstudy.dto.WorkHoursBatchStatusRequest;
+import com.workstudy.dto.WorkHoursOverlapReport;
 import com.workstudy.dto.WorkHoursRequest;
+import com.workstudy.dto.WorkHoursShift;
 import com.workstudy.dto.WorkHoursStatusRequest;
+import com.workstudy.dto.WorkHoursStatusSnapshot;
+import com.workstudy.dto.WorkHoursView;
 import com.workstudy.entity.JobPosting;
 import com.workstudy.entity.User;
 import com.workstudy.entity.WorkHours;
+import com.workstudy.repository.UserRepository;
 import com.workstudy.repository.WorkHoursRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class WorkHoursService {
+    // Keeps IN lists well below the bind-parameter limits of H2 and PostgreSQL
+    private static final int TOTALS_BATCH_SIZE = 1000;
+    // Each chunk of a bulk status change commits in its own transaction
+    private static final int STATUS_BATCH_SIZE = 500;
+    
     private final WorkHoursRepository workHoursRepository;
+    private final UserRepository userRepository;
     private final JobPostingService jobPostingService;
+    private final DashboardStatsService dashboardStatsService;
+    private final StatusEventService statusEventService;
+    private final TransactionTemplate transactionTemplate;
     
     @Transactional
     public WorkHours logWorkHours(WorkHoursRequest request, User student) {
         JobPosting job = jobPostingService.findById(request.getJobId());
         
-        long minutes = ChronoUnit.MINUTES.between(request.getStartTime(), request.getEndTime());
-        BigDecimal hours = BigDecimal.valueOf(minutes).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+        BigDecimal hours = hoursBetween(request.getStartTime(), request.getEndTime());
+        checkEntry(student.getId(), job, request, hours, null);
         
         WorkHours workHours = new WorkHours();
         workHours.setStudent(student);
@@ -43,20 +77,126 @@ public class WorkHoursService {
         return workHoursRepository.save(workHours);
     }
     
-    public List<WorkHours> findByStudent(Long studentId) {
-        return workHoursRepository.findByStudentId(studentId);
+    /**
+     * Validates a new or edited entry against the student's other entries. The
+     * student's row is locked first, so concurrent submissions for the same student
+     * are checked one after another. Rejected entries do not count.
+     */
+    private void checkEntry(Long studentId, JobPosting job, WorkHoursRequest request, BigDecimal hours, Long entryId) {
+        // A reversed or empty shift would lower the week's total and slip past the limit
+        if (hours.signum() <= 0) {
+            throw new RuntimeException("endTime must be after startTime");
+        }
+        userRepository.findByIdForUpdate(studentId)
+                .orElseThrow(() -> new RuntimeException("Student not found"));
+        long excludedId = entryId != null ? entryId : -1L;
+        checkWeeklyLimit(studentId, job, request.getWorkDate(), hours, excludedId);
+        checkOverlap(studentId, request.getWorkDate(), request.getStartTime(), request.getEndTime(), excludedId);
+    }
+    
+    // Rejects hours beyond the job's limit for the ISO week; one range read on (student, job, work date)
+    private void checkWeeklyLimit(Long studentId, JobPosting job, LocalDate workDate, BigDecimal hours, long excludedId) {
+        LocalDate weekStart = weekStart(workDate);
+        BigDecimal logged = workHoursRepository.sumHoursWorkedForWeek(studentId, job.getId(), weekStart,
+                weekStart.plusDays(6), WorkHours.Status.REJECTED, excludedId);
+        String exceeded = exceedsWeeklyLimit(logged, hours, job.getMaxHoursPerWeek(), weekStart);
+        if (exceeded != null) {
+            throw new RuntimeException(exceeded);
+        }
+    }
+    
+    static LocalDate weekStart(LocalDate workDate) {
+        return workDate.with(DayOfWeek.MONDAY);
+    }
+    
+    // The reason new hours do not fit in the week, or null; shared with the timesheet import
+    static String exceedsWeeklyLimit(BigDecimal logged, BigDecimal hours, int maxHoursPerWeek, LocalDate weekStart) {
+        BigDecimal limit = BigDecimal.valueOf(maxHoursPerWeek);
+        if (logged.add(hours).compareTo(limit) <= 0) {
+            return null;
+        }
+        return "Weekly limit of " + limit + " hours for this job exceeded: "
+                + logged.stripTrailingZeros().toPlainString() + " hours already logged for the week of " + weekStart;
+    }
+    
+    // Rejects a shift overlapping any other entry of the student that day, across all jobs
+    private void checkOverlap(Long studentId, LocalDate workDate, LocalTime startTime, LocalTime endTime, long excludedId) {
+        new ShiftIntervals(workHoursRepository.findShifts(studentId, workDate, WorkHours.Status.REJECTED, excludedId))
+                .findOverlap(startTime, endTime)
+                .ifPresent(other -> {
+                    throw new RuntimeException(overlapsEntry(workDate, other));
+                });
+    }
+    
+    static String overlapsEntry(LocalDate workDate, WorkHoursShift other) {
+        return "This shift overlaps another entry on " + workDate + " (" + other.startTime() + "-" + other.endTime() + ")";
+    }
+    
+    /**
+     * Finds overlapping shifts across all work hours in one pass over the table,
+     * ordered by student, date and start time. For each entry it is enough to
+     * compare against the entry with the latest end so far on that student's day.
+     * Reversed entries are listed separately and kept out of that comparison.
+     */
+    @Transactional(readOnly = true)
+    public WorkHoursOverlapReport findOverlaps(int maxResults) {
+        WorkHoursOverlapReport report = new WorkHoursOverlapReport();
+        try (Stream<WorkHoursShift> shifts = workHoursRepository.streamShifts(WorkHours.Status.REJECTED)) {
+            WorkHoursShift latest = null;
+            for (WorkHoursShift shift : (Iterable<WorkHoursShift>) shifts::iterator) {
+                report.setScanned(report.getScanned() + 1);
+                if (!ShiftIntervals.isRange(shift.startTime(), shift.endTime())) {
+                    if (report.getReversed().size() == maxResults) {
+                        report.setTruncated(true);
+                        break;
+                    }
+                    report.getReversed().add(shift);
+                    continue;
+                }
+                boolean sameDay = latest != null && latest.studentId().equals(shift.studentId())
+                        && latest.workDate().equals(shift.workDate());
+                if (!sameDay) {
+                    latest = shift;
+                    continue;
+                }
+                if (latest.overlaps(shift.startTime(), shift.endTime())) {
+                    if (report.getOverlaps().size() == maxResults) {
+                        report.setTruncated(true);
+                        break;
+                    }
+                    report.getOverlaps().add(new WorkHoursOverlapReport.Overlap(latest, shift));
+                }
+                if (shift.endTime().isAfter(latest.endTime())) {
+                    latest = shift;
+                }
+            }
+        }
+        return report;
+    }
+    
+    static BigDecimal hoursBetween(LocalTime startTime, LocalTime endTime) {
+        long minutes = ChronoUnit.MINUTES.between(startTime, endTime);
+        return BigDecimal.valueOf(minutes).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+    }
+    
+    public CursorPage<WorkHoursView> findByStudent(Long studentId, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                (after, max) -> workHoursRepository.findViewsByStudentId(studentId, after, max),
+                WorkHoursView::id);
     }
     
-    public List<WorkHours> findByJob(Long jobId) {
-        return workHoursRepository.findByJobId(jobId);
+    public CursorPage<WorkHoursView> findByJob(Long jobId, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                (after, max) -> workHoursRepository.findViewsByJobId(jobId, after, max),
+                WorkHoursView::id);
     }
     
     public List<WorkHours> findByStudentAndJob(Long studentId, Long jobId) {
         return workHoursRepository.findByStudentIdAndJobId(studentId, jobId);
     }
     
-    public List<WorkHours> findAll() {
-        return workHoursRepository.findAll();
+    public CursorPage<WorkHoursView> findAll(String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit, workHoursRepository::findViews, WorkHoursView::id);
     }
     
     public WorkHours findById(Long id) {
@@ -65,40 +205,145 @@ public class WorkHoursService {
     }
     
     public BigDecimal getTotalHoursForStudent(Long studentId) {
-        return workHoursRepository.findByStudentId(studentId).stream()
-                .filter(wh -> wh.getStatus() == WorkHours.Status.APPROVED)
-                .map(WorkHours::getHoursWorked)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return workHoursRepository.sumHoursWorkedByStudentIdAndStatus(studentId, WorkHours.Status.APPROVED);
     }
     
     public BigDecimal getTotalHoursForStudentAndJob(Long studentId, Long jobId) {
-        return workHoursRepository.findByStudentIdAndJobId(studentId, jobId).stream()
-                .filter(wh -> wh.getStatus() == WorkHours.Status.APPROVED)
-                .map(WorkHours::getHoursWorked)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return workHoursRepository.sumHoursWorkedByStudentIdAndJobIdAndStatus(studentId, jobId, WorkHours.Status.APPROVED);
     }
     
-    public List<WorkHours> findByDateRange(Long studentId, LocalDate startDate, LocalDate endDate) {
-        return workHoursRepository.findByStudentIdAndWorkDateBetween(studentId, startDate, endDate);
+    /**
+     * Approved hour totals for many students, one grouped query per batch of IDs.
+     * Results follow the order of the requested IDs; students without approved
+     * hours are reported with a zero total.
+     */
+    public List<StudentHoursTotal> getTotalHoursForStudents(List<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        Map<Long, StudentHoursTotal> totals = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += TOTALS_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + TOTALS_BATCH_SIZE, ids.size()));
+            for (StudentHoursTotal total : workHoursRepository.sumHoursWorkedGroupByStudent(batch, WorkHours.Status.APPROVED)) {
+                totals.put(total.getStudentId(), total);
+            }
+        }
+        return ids.stream()
+                .map(id -> totals.getOrDefault(id, new StudentHoursTotal(id, BigDecimal.ZERO, 0L)))
+                .toList();
+    }
+    
+    public List<JobHoursTotal> getHoursByJob(Long studentId) {
+        return workHoursRepository.sumHoursWorkedGroupByJob(studentId, WorkHours.Status.APPROVED);
+    }
+    
+    public List<StatusHoursTotal> getHoursByStatus(Long studentId) {
+        return workHoursRepository.sumHoursWorkedGroupByStatus(studentId);
+    }
+    
+    /**
+     * Approved hours per ISO week. The database sums per work date and the daily
+     * rows are folded into ISO weeks here, which keeps the query portable between
+     * H2 and PostgreSQL while returning at most one row per day in the range.
+     */
+    public List<WeeklyHoursTotal> getWeeklyHours(Long studentId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, WeeklyHoursTotal> weeks = new LinkedHashMap<>();
+        for (DailyHoursTotal day : workHoursRepository.sumHoursWorkedGroupByDay(
+                studentId, WorkHours.Status.APPROVED, startDate, endDate)) {
+            LocalDate date = day.getWorkDate();
+            WeeklyHoursTotal week = weeks.computeIfAbsent(date.with(DayOfWeek.MONDAY), weekStart ->
+                    new WeeklyHoursTotal(date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR),
+                            weekStart, BigDecimal.ZERO, 0L));
+            week.setTotalHours(week.getTotalHours().add(day.getTotalHours()));
+            week.setEntries(week.getEntries() + day.getEntries());
+        }
+        return new ArrayList<>(weeks.values());
+    }
+    
+    public Map<String, Object> getHoursSummary(Long studentId, LocalDate startDate, LocalDate endDate) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("totalHours", getTotalHoursForStudent(studentId));
+        summary.put("byJob", getHoursByJob(studentId));
+        summary.put("byStatus", getHoursByStatus(studentId));
+        summary.put("byWeek", getWeeklyHours(studentId, startDate, endDate));
+        return summary;
+    }
+    
+    public List<WorkHoursView> findByDateRange(Long studentId, LocalDate startDate, LocalDate endDate) {
+        return workHoursRepository.findViewsByStudentIdAndWorkDateBetween(studentId, startDate, endDate);
     }
     
     @Transactional
     public WorkHours updateStatus(Long id, WorkHoursStatusRequest request, User admin) {
         WorkHours workHours = findById(id);
+        WorkHours.Status oldStatus = workHours.getStatus();
         workHours.setStatus(WorkHours.Status.valueOf(request.getStatus()));
         workHours.setSupervisorNotes(request.getSupervisorNotes());
         workHours.setApprovedBy(admin);
         workHours.setApprovedAt(LocalDateTime.now());
         
-        return workHoursRepository.save(workHours);
+        WorkHours saved = workHoursRepository.save(workHours);
+        dashboardStatsService.workHoursChanged(oldStatus, saved.getHoursWorked(), saved.getStatus(), saved.getHoursWorked());
+        statusEventService.workHoursStatusChanged(id, saved.getStudent().getId(), oldStatus, saved.getStatus());
+        return saved;
+    }
+    
+    public WorkHoursBatchResult updateStatuses(WorkHoursBatchStatusRequest request, User admin) {
+        WorkHours.Status status = WorkHours.Status.valueOf(request.getStatus());
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        // In filter mode, entries are listed outside the chunk transactions, so each one is
+        // rechecked under its lock and skipped if another reviewer changed it in between
+        WorkHours.Status expected = byIds ? null : WorkHours.Status.valueOf(request.getCurrentStatus());
+        List<Long> ids = byIds
+                ? new ArrayList<>(new LinkedHashSet<>(request.getIds()))
+                : workHoursRepository.findIdsByJobIdAndStatusAndWorkDateBetween(request.getJobId(),
+                        expected, request.getStartDate(), request.getEndDate());
+        
+        WorkHoursBatchResult result = new WorkHoursBatchResult();
+        for (int from = 0; from < ids.size(); from += STATUS_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + STATUS_BATCH_SIZE, ids.size()));
+            try {
+                Map<Long, WorkHoursStatusSnapshot> locked = transactionTemplate.execute(tx ->
+                        updateStatusChunk(chunk, expected, status, request.getSupervisorNotes(), admin));
+                for (Long id : chunk) {
+                    WorkHoursStatusSnapshot snapshot = locked.get(id);
+                    if (snapshot == null) {
+                        result.addFailed(id, "Work hours not found");
+                    } else if (expected != null && snapshot.status() != expected) {
+                        result.addFailed(id, "Status changed");
+                    } else {
+                        result.addUpdated(id);
+                    }
+                }
+            } catch (RuntimeException e) {
+                chunk.forEach(id -> result.addFailed(id, "Update failed: " + e.getMessage()));
+            }
+        }
+        return result;
+    }
+    
+    // Returns every entry found and locked; only those still in the expected status (if any) are updated
+    private Map<Long, WorkHoursStatusSnapshot> updateStatusChunk(List<Long> ids, WorkHours.Status expected,
+                                                                 WorkHours.Status status, String notes, User admin) {
+        Map<Long, WorkHoursStatusSnapshot> locked = workHoursRepository.lockStatusSnapshots(ids).stream()
+                .collect(Collectors.toMap(WorkHoursStatusSnapshot::id, Function.identity()));
+        Map<Long, WorkHoursStatusSnapshot> before = expected == null ? locked : locked.values().stream()
+                .filter(snapshot -> snapshot.status() == expected)
+                .collect(Collectors.toMap(WorkHoursStatusSnapshot::id, Function.identity()));
+        if (before.isEmpty()) {
+            return locked;
+        }
+        workHoursRepository.updateStatusByIds(before.keySet(), status, notes, admin, LocalDateTime.now());
+        dashboardStatsService.workHoursStatusChanged(before.values(), status);
+        statusEventService.workHoursStatusesChanged(before.values(), status);
+        return locked;
     }
     
     @Transactional
     public WorkHours updateWorkHours(Long id, WorkHoursRequest request) {
         WorkHours workHours = findById(id);
+        BigDecimal oldHours = workHours.getHoursWorked();
         
-        long minutes = ChronoUnit.MINUTES.between(request.getStartTime(), request.getEndTime());
-        BigDecimal hours = BigDecimal.valueOf(minutes).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+        BigDecimal hours = hoursBetween(request.getStartTime(), request.getEndTime());
+        checkEntry(workHours.getStudent().getId(), workHours.getJob(), request, hours, id);
         
         workHours.setWorkDate(request.getWorkDate());
         workHours.setStartTime(request.getStartTime());
@@ -106,11 +351,16 @@ public class WorkHoursService {
         workHours.setHoursWorked(hours);
         workHours.setDescription(request.getDescription());
         
-        return workHoursRepository.save(workHours);
+        WorkHours saved = workHoursRepository.save(workHours);
+        dashboardStatsService.workHoursChanged(saved.getStatus(), oldHours, saved.getStatus(), saved.getHoursWorked());
+        return saved;
     }
     
     @Transactional
     public void deleteWorkHours(Long id) {
-        workHoursRepository.deleteById(id);
+        workHoursRepository.findById(id).ifPresent(workHours -> {
+            workHoursRepository.delete(workHours);
+            dashboardStatsService.workHoursChanged(workHours.getStatus(), workHours.getHoursWorked(), null, null);
+        });
     }
 }
@@ -0,0 +1,135 @@
+package com.workstudy.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private final Counter rejected = new SimpleMeterRegistry().counter("rejected");
+    
+    // Five requests at once, then one every 200 ms
+    private final RateLimiter limiter = new RateLimiter("/api/auth/**",
+            new RateLimitProperties.Limit(5, Duration.ofSeconds(1)), rejected);
+    
+    @Test
+    void allowsABurstOfCapacityThenReportsTheWait() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("client", 0)).isZero();
+        }
+        
+        assertThat(limiter.tryAcquire("client", 0)).isEqualTo(200 * MILLIS);
+        assertThat(limiter.tryAcquire("client", 50 * MILLIS)).isEqualTo(150 * MILLIS);
+        assertThat(rejected.count()).isEqualTo(2);
+    }
+    
+    @Test
+    void refillsOneTokenPerInterval() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("client", 0);
+        }
+        
+        assertThat(limiter.tryAcquire("client", 200 * MILLIS)).isZero();
+        assertThat(limiter.tryAcquire("client", 200 * MILLIS)).isEqualTo(200 * MILLIS);
+        assertThat(limiter.tryAcquire("client", 600 * MILLIS)).isZero();
+        assertThat(limiter.tryAcquire("client", 600 * MILLIS)).isZero();
+        assertThat(limiter.tryAcquire("client", 600 * MILLIS)).isEqualTo(200 * MILLIS);
+    }
+    
+    @Test
+    void idleTimeNeverBanksMoreThanABurst() {
+        limiter.tryAcquire("client", 0);
+        
+        long later = TimeUnit.MINUTES.toNanos(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("client", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire("client", later)).isPositive();
+    }
+    
+    @Test
+    void clientsHaveSeparateBuckets() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("first", 0);
+        }
+        
+        assertThat(limiter.tryAcquire("first", 0)).isPositive();
+        assertThat(limiter.tryAcquire("second", 0)).isZero();
+    }
+    
+    @Test
+    void evictsOnlyBucketsIdleForLongerThanTheTimeout() {
+        limiter.tryAcquire("idle", 0);
+        limiter.tryAcquire("busy", 0);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("busy", 500 * MILLIS);
+        }
+        
+        // "idle" was full again at 200 ms, "busy" will be at 1.5 s
+        limiter.evictIdle(1_300 * MILLIS, 1_000 * MILLIS);
+        
+        assertThat(limiter.size()).isEqualTo(1);
+        // Still one token short of full, so its state was kept
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire("busy", 1_300 * MILLIS)).isZero();
+        }
+        assertThat(limiter.tryAcquire("busy", 1_300 * MILLIS)).isPositive();
+    }
+    
+    @Test
+    void matchesPrefixOnSegmentBoundaries() {
+        assertThat(limiter.matches("/api/auth")).isTrue();
+        assertThat(limiter.matches("/api/auth/login")).isTrue();
+        assertThat(limiter.matches("/api/authors")).isFalse();
+        assertThat(limiter.matches("/api")).isFalse();
+        
+        RateLimiter exact = new RateLimiter("/api/auth/login", new RateLimitProperties.Limit(5, Duration.ofSeconds(1)), rejected);
+        assertThat(exact.matches("/api/auth/login")).isTrue();
+        assertThat(exact.matches("/api/auth/login/extra")).isFalse();
+    }
+    
+    @Test
+    void concurrentRequestsTakeNoMoreThanTheBurst() throws Exception {
+        int threads = 8;
+        int attempts = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int taken = 0;
+                    for (int i = 0; i < attempts; i++) {
+                        if (limiter.tryAcquire("client", 0) == 0) {
+                            taken++;
+                        }
+                    }
+                    return taken;
+                }));
+            }
+            start.countDown();
+            int taken = 0;
+            for (Future<Integer> result : results) {
+                taken += result.get(10, TimeUnit.SECONDS);
+            }
+            
+            assertThat(taken).isEqualTo(5);
+            assertThat(rejected.count()).isEqualTo(threads * attempts - 5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.workstudy.config;
+
+import com.workstudy.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(showSql = false)
+@Import(SequenceAligner.class)
+class SequenceAlignerTest {
+    @Autowired
+    private SequenceAligner sequenceAligner;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void checkingASequenceDoesNotAdvanceIt() {
+        long before = nextUserId();
+        
+        sequenceAligner.align();
+        sequenceAligner.align();
+        
+        assertThat(nextUserId()).isEqualTo(before);
+    }
+    
+    @Test
+    void movesASequencePastRowsInsertedWithTheirOwnIds() {
+        User user = new User();
+        user.setUsername("bulk");
+        user.setPassword("unused");
+        user.setEmail("bulk@example.edu");
+        user.setFullName("Bulk Loaded");
+        user.setRole(User.Role.STUDENT);
+        Long id = entityManager.persistFlushFind(user).getId();
+        jdbcTemplate.update("UPDATE users SET id = 5000 WHERE id = ?", id);
+        
+        sequenceAligner.align();
+        
+        assertThat(nextUserId()).isGreaterThan(5000);
+    }
+    
+    private long nextUserId() {
+        return jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES " +
+                "WHERE SEQUENCE_NAME = 'USERS_SEQ'", Long.class);
+    }
+}
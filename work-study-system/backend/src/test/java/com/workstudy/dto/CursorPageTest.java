@@ -0,0 +1,39 @@
+package com.workstudy.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPageTest {
+    
+    @Test
+    void cursorRoundTrips() {
+        assertThat(CursorPage.decodeCursor(CursorPage.encodeCursor(42L))).isEqualTo(42L);
+        assertThat(CursorPage.decodeCursor(null)).isEqualTo(Long.MAX_VALUE);
+    }
+    
+    @Test
+    void nextPageStartsBelowTheLastItem() {
+        List<Long> ids = LongStream.rangeClosed(1, 10).boxed().sorted((a, b) -> Long.compare(b, a)).toList();
+        CursorPage<Long> first = CursorPage.fetch(null, 4, (cursor, limit) ->
+                ids.stream().filter(id -> id < cursor).limit(limit.max()).toList(), id -> id);
+        
+        assertThat(first.getItems()).containsExactly(10L, 9L, 8L, 7L);
+        assertThat(CursorPage.decodeCursor(first.getNext())).isEqualTo(7L);
+    }
+    
+    @Test
+    void malformedCursorIsABadRequest() {
+        for (String cursor : List.of("not base64!", "AAAA")) {
+            assertThatThrownBy(() -> CursorPage.decodeCursor(cursor))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.workstudy.dto;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkHoursRequestTest {
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    
+    @Test
+    void shiftMustEndAfterItStarts() {
+        assertThat(validator.validate(request("09:00", "17:00"))).isEmpty();
+        assertThat(validator.validate(request("17:00", "09:00")))
+                .extracting(violation -> violation.getMessage())
+                .containsExactly("endTime must be after startTime");
+        assertThat(validator.validate(request("09:00", "09:00"))).hasSize(1);
+    }
+    
+    private static WorkHoursRequest request(String start, String end) {
+        WorkHoursRequest request = new WorkHoursRequest();
+        request.setJobId(1L);
+        request.setWorkDate(LocalDate.of(2024, 1, 8));
+        request.setStartTime(LocalTime.parse(start));
+        request.setEndTime(LocalTime.parse(end));
+        return request;
+    }
+}
@@ -0,0 +1,149 @@
+package com.workstudy.repository;
+
+import com.workstudy.dto.JobHoursTotal;
+import com.workstudy.dto.StudentHoursTotal;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.entity.User;
+import com.workstudy.entity.WorkHours;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The totals queries group in the database, so they cost the same number of
+ * statements however many students and entries they cover.
+ */
+@DataJpaTest(showSql = false)
+class WorkHoursRepositoryTest {
+    private static final int ENTRIES_PER_STUDENT = 5;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private WorkHoursRepository workHoursRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics statistics;
+    private User admin;
+    private JobPosting job;
+    private int userNumber;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        admin = user(User.Role.ADMIN);
+        job = job(admin);
+    }
+    
+    @Test
+    void studentTotalsTakeOneStatementForAnyNumberOfStudents() {
+        List<Long> few = students(3);
+        List<Long> many = students(300);
+        
+        long fewStatements = statementsFor(() -> workHoursRepository.sumHoursWorkedGroupByStudent(few, WorkHours.Status.APPROVED));
+        long manyStatements = statementsFor(() -> workHoursRepository.sumHoursWorkedGroupByStudent(many, WorkHours.Status.APPROVED));
+        
+        assertThat(fewStatements).isEqualTo(1);
+        assertThat(manyStatements).isEqualTo(fewStatements);
+        
+        List<StudentHoursTotal> totals = workHoursRepository.sumHoursWorkedGroupByStudent(many, WorkHours.Status.APPROVED);
+        assertThat(totals).hasSize(300);
+        assertThat(totals).allSatisfy(total -> {
+            assertThat(total.getTotalHours()).isEqualByComparingTo(BigDecimal.valueOf(2L * ENTRIES_PER_STUDENT));
+            assertThat(total.getEntries()).isEqualTo((long) ENTRIES_PER_STUDENT);
+        });
+    }
+    
+    @Test
+    void jobTotalsTakeOneStatementForAnyNumberOfEntries() {
+        Long light = students(1).get(0);
+        Long heavy = student(400);
+        
+        long lightStatements = statementsFor(() -> workHoursRepository.sumHoursWorkedGroupByJob(light, WorkHours.Status.APPROVED));
+        long heavyStatements = statementsFor(() -> workHoursRepository.sumHoursWorkedGroupByJob(heavy, WorkHours.Status.APPROVED));
+        
+        assertThat(lightStatements).isEqualTo(1);
+        assertThat(heavyStatements).isEqualTo(lightStatements);
+        
+        List<JobHoursTotal> totals = workHoursRepository.sumHoursWorkedGroupByJob(heavy, WorkHours.Status.APPROVED);
+        assertThat(totals).singleElement().satisfies(total ->
+                assertThat(total.getTotalHours()).isEqualByComparingTo(BigDecimal.valueOf(800)));
+    }
+    
+    private long statementsFor(Runnable query) {
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+    
+    private List<Long> students(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(student(ENTRIES_PER_STUDENT));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+    
+    private Long student(int entries) {
+        User student = user(User.Role.STUDENT);
+        LocalDate monday = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < entries; i++) {
+            WorkHours workHours = new WorkHours();
+            workHours.setStudent(student);
+            workHours.setJob(job);
+            workHours.setWorkDate(monday.plusDays(i));
+            workHours.setStartTime(LocalTime.of(9, 0));
+            workHours.setEndTime(LocalTime.of(11, 0));
+            workHours.setHoursWorked(BigDecimal.valueOf(2));
+            workHours.setStatus(WorkHours.Status.APPROVED);
+            entityManager.persist(workHours);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return student.getId();
+    }
+    
+    private User user(User.Role role) {
+        int number = ++userNumber;
+        User user = new User();
+        user.setUsername("user" + number);
+        user.setPassword("hash");
+        user.setEmail("user" + number + "@example.edu");
+        user.setFullName("User " + number);
+        user.setRole(role);
+        return entityManager.persist(user);
+    }
+    
+    private JobPosting job(User postedBy) {
+        JobPosting job = new JobPosting();
+        job.setTitle("Library Assistant");
+        job.setDescription("Shelving");
+        job.setDepartment("Library");
+        job.setLocation("Main Library");
+        job.setHourlyRate(BigDecimal.valueOf(15));
+        job.setMaxHoursPerWeek(20);
+        job.setTotalPositions(2);
+        job.setApplicationDeadline(LocalDate.of(2030, 1, 1));
+        job.setPostedBy(postedBy);
+        return entityManager.persist(job);
+    }
+}
@@ -0,0 +1,138 @@
+package com.workstudy.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Semaphore started = new Semaphore(0);
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private MeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // One thread and room for two queued hashes; every hash waits until released
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 2, meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+        callers.shutdownNow();
+    }
+    
+    @Test
+    void hashesOnThePool() {
+        release.countDown();
+        
+        assertThat(encoder.encode("secret")).isEqualTo("hashed:secret");
+        assertThat(encoder.matches("secret", "hashed:secret")).isTrue();
+        assertThat(encoder.matches("other", "hashed:secret")).isFalse();
+        assertThat(rejected()).isZero();
+    }
+    
+    @Test
+    void rejectsWhenTheQueueIsFull() throws Exception {
+        List<CompletableFuture<String>> waiting = fillPool();
+        
+        assertThatThrownBy(() -> encoder.encode("late")).isInstanceOf(PasswordHashRejectedException.class);
+        assertThatThrownBy(() -> encoder.matches("late", "hashed:late")).isInstanceOf(PasswordHashRejectedException.class);
+        assertThat(rejected()).isEqualTo(2);
+        
+        release.countDown();
+        for (CompletableFuture<String> hash : waiting) {
+            assertThat(hash.get(5, TimeUnit.SECONDS)).startsWith("hashed:");
+        }
+        assertThat(encoder.encode("again")).isEqualTo("hashed:again");
+    }
+    
+    @Test
+    void checkCapacityRejectsOnlyWhenTheQueueIsFull() throws Exception {
+        encoder.checkCapacity();
+        
+        fillPool();
+        
+        assertThatThrownBy(encoder::checkCapacity).isInstanceOf(PasswordHashRejectedException.class);
+        assertThat(rejected()).isEqualTo(1);
+    }
+    
+    @Test
+    void putsOffUpgradesWhileHashesQueue() throws Exception {
+        assertThat(encoder.upgradeEncoding("hashed:secret")).isTrue();
+        
+        fillPool();
+        
+        assertThat(encoder.upgradeEncoding("hashed:secret")).isFalse();
+    }
+    
+    // One hash running on the pool thread and two queued behind it
+    private List<CompletableFuture<String>> fillPool() throws InterruptedException {
+        List<CompletableFuture<String>> waiting = new ArrayList<>();
+        waiting.add(CompletableFuture.supplyAsync(() -> encoder.encode("first"), callers));
+        assertThat(started.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 2; i++) {
+            String password = "queued" + i;
+            waiting.add(CompletableFuture.supplyAsync(() -> encoder.encode(password), callers));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queueHasRoom() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return waiting;
+    }
+    
+    private boolean queueHasRoom() {
+        return meterRegistry.get("executor.queue.remaining").tag("name", "password-hash").gauge().value() > 0;
+    }
+    
+    private double rejected() {
+        return meterRegistry.counter("workstudy.password-hash.rejected").count();
+    }
+    
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+        
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+        
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return true;
+        }
+        
+        private void await() {
+            started.release();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.workstudy.security;
+
+import com.workstudy.entity.User;
+import com.workstudy.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class JwtAuthenticationFilterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenEpochs tokenEpochs = new TokenEpochs(mock(UserRepository.class));
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", "testsecretkeytestsecretkeytestsecretkey");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 600_000L);
+        jwtUtil.init();
+        filter = new JwtAuthenticationFilter(jwtUtil, tokenEpochs, meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void acceptsATokenOfTheCurrentEpoch() throws Exception {
+        Authentication authentication = authenticate(jwtUtil.generateToken(user(0)));
+        
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("student");
+        assertThat(((UserDetailsImpl) authentication.getPrincipal()).getId()).isEqualTo(42L);
+        assertThat(verifications("valid")).isEqualTo(1);
+    }
+    
+    @Test
+    void bumpedEpochRevokesOlderTokens() throws Exception {
+        String token = jwtUtil.generateToken(user(0));
+        
+        tokenEpochs.bumped(42L, 1);
+        
+        assertThat(authenticate(token)).isNull();
+        assertThat(verifications("revoked")).isEqualTo(1);
+        assertThat(authenticate(jwtUtil.generateToken(user(1)))).isNotNull();
+    }
+    
+    @Test
+    void refreshTokenIsNotAnAccessToken() throws Exception {
+        assertThat(authenticate(jwtUtil.generateRefreshToken(user(0)))).isNull();
+        assertThat(verifications("revoked")).isEqualTo(1);
+    }
+    
+    @Test
+    void invalidTokenIsIgnored() throws Exception {
+        assertThat(authenticate("not-a-token")).isNull();
+        assertThat(verifications("invalid")).isEqualTo(1);
+    }
+    
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/workhours/my");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        
+        assertThat(chain.getRequest()).isSameAs(request);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+    
+    private long verifications(String outcome) {
+        return meterRegistry.get("workstudy.jwt.verify").tag("outcome", outcome).timer().count();
+    }
+    
+    private static User user(int tokenEpoch) {
+        User user = new User();
+        user.setId(42L);
+        user.setUsername("student");
+        user.setFullName("Test Student");
+        user.setRole(User.Role.STUDENT);
+        user.setTokenEpoch(tokenEpoch);
+        return user;
+    }
+}
@@ -0,0 +1,95 @@
+package com.workstudy.security;
+
+import com.workstudy.dto.UserTokenEpoch;
+import com.workstudy.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenEpochsTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenEpochs tokenEpochs = new TokenEpochs(userRepository);
+    
+    @Test
+    void loadsStoredEpochs() {
+        when(userRepository.findBumpedTokenEpochs()).thenReturn(List.of(new UserTokenEpoch(7L, 3), new UserTokenEpoch(9L, 1)));
+        
+        tokenEpochs.load();
+        
+        assertThat(tokenEpochs.current(7)).isEqualTo(3);
+        assertThat(tokenEpochs.current(9)).isEqualTo(1);
+        assertThat(tokenEpochs.current(8)).isZero();
+    }
+    
+    @Test
+    void keepsTheHighestEpoch() {
+        tokenEpochs.bumped(5L, 2);
+        tokenEpochs.bumped(5L, 1);
+        
+        assertThat(tokenEpochs.current(5)).isEqualTo(2);
+        
+        tokenEpochs.bumped(5L, 4);
+        
+        assertThat(tokenEpochs.current(5)).isEqualTo(4);
+    }
+    
+    @Test
+    void growsPastItsInitialCapacity() {
+        // Ids a power of two apart collide in a table that hashed by low bits alone
+        for (long id = 1; id <= 10_000; id++) {
+            tokenEpochs.bumped(id * 1024, (int) (id % 7) + 1);
+        }
+        
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(tokenEpochs.current(id * 1024)).isEqualTo((int) (id % 7) + 1);
+            assertThat(tokenEpochs.current(id * 1024 + 1)).isZero();
+        }
+    }
+    
+    @Test
+    void readersSeeEveryBumpOnceMade() throws Exception {
+        ExecutorService readers = Executors.newFixedThreadPool(3);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            List<Future<Boolean>> results = List.of(
+                    readers.submit(() -> readMonotonic(done)),
+                    readers.submit(() -> readMonotonic(done)),
+                    readers.submit(() -> readMonotonic(done)));
+            for (int epoch = 1; epoch <= 2_000; epoch++) {
+                for (long id = 1; id <= 50; id++) {
+                    tokenEpochs.bumped(id, epoch);
+                }
+            }
+            done.set(true);
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+    
+    // An id's epoch only ever goes up, however the table is copied underneath
+    private boolean readMonotonic(AtomicBoolean done) {
+        int[] last = new int[51];
+        while (!done.get()) {
+            for (int id = 1; id <= 50; id++) {
+                int epoch = tokenEpochs.current(id);
+                if (epoch < last[id]) {
+                    return false;
+                }
+                last[id] = epoch;
+            }
+        }
+        return true;
+    }
+}
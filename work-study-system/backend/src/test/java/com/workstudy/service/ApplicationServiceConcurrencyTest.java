@@ -0,0 +1,176 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.ApplicationStatusRequest;
+import com.workstudy.entity.Application;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.entity.User;
+import com.workstudy.repository.ApplicationRepository;
+import com.workstudy.repository.JobPostingRepository;
+import com.workstudy.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Approves far more applications than a posting has positions, or one application
+ * many times, all at once, and checks that claimPosition and markFilledIfFull never
+ * overfill the posting.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class ApplicationServiceConcurrencyTest {
+    private static final int POSITIONS = 25;
+    private static final int APPLICATIONS = 300;
+    private static final int THREADS = 8;
+    
+    @Autowired
+    private ApplicationService applicationService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    
+    @Test
+    void concurrentApprovalsFillEveryPositionExactlyOnce() throws InterruptedException {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        JobPosting job = jobPostingRepository.save(job(admin));
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            applicationIds.add(applicationRepository.save(application(student("concurrent" + i), job)).getId());
+        }
+        
+        AtomicInteger approved = new AtomicInteger();
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (Long id : applicationIds) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    applicationService.updateStatus(id, approval(), admin);
+                    approved.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failures.add(String.valueOf(e.getMessage()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        
+        JobPosting filled = jobPostingRepository.findById(job.getId()).orElseThrow();
+        assertThat(approved.get()).isEqualTo(POSITIONS);
+        assertThat(filled.getFilledPositions()).isEqualTo(POSITIONS);
+        assertThat(filled.getStatus()).isEqualTo(JobPosting.Status.FILLED);
+        assertThat(applicationIds.stream()
+                .filter(id -> applicationRepository.findById(id).orElseThrow().getStatus() == Application.Status.APPROVED))
+                .hasSize(POSITIONS);
+        assertThat(failures).hasSize(APPLICATIONS - POSITIONS)
+                .allMatch(message -> message.equals("All positions for this job have been filled"));
+    }
+    
+    @Test
+    void concurrentApprovalsOfOneApplicationClaimOnePosition() throws InterruptedException {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        JobPosting job = jobPostingRepository.save(job(admin));
+        Long applicationId = applicationRepository.save(application(student("repeated"), job)).getId();
+        
+        AtomicInteger approved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < THREADS * 4; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    applicationService.updateStatus(applicationId, approval(), admin);
+                    approved.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        
+        assertThat(approved.get()).isEqualTo(THREADS * 4);
+        assertThat(jobPostingRepository.findById(job.getId()).orElseThrow().getFilledPositions()).isEqualTo(1);
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(Application.Status.APPROVED);
+    }
+    
+    @Test
+    void approvalOnAClosedPostingFillsNothing() {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        JobPosting closed = job(admin);
+        closed.setStatus(JobPosting.Status.CLOSED);
+        JobPosting job = jobPostingRepository.save(closed);
+        Long applicationId = applicationRepository.save(application(student("late"), job)).getId();
+        
+        assertThatThrownBy(() -> applicationService.updateStatus(applicationId, approval(), admin))
+                .hasMessage("Job posting is not active");
+        assertThat(jobPostingRepository.findById(job.getId()).orElseThrow().getFilledPositions()).isZero();
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(Application.Status.PENDING);
+    }
+    
+    private static ApplicationStatusRequest approval() {
+        ApplicationStatusRequest request = new ApplicationStatusRequest();
+        request.setStatus(Application.Status.APPROVED.name());
+        return request;
+    }
+    
+    private JobPosting job(User admin) {
+        JobPosting job = new JobPosting();
+        job.setTitle("Stress Test Assistant");
+        job.setDescription("Concurrent approvals");
+        job.setDepartment("Testing");
+        job.setLocation("Lab");
+        job.setHourlyRate(BigDecimal.valueOf(15));
+        job.setMaxHoursPerWeek(20);
+        job.setTotalPositions(POSITIONS);
+        job.setApplicationDeadline(LocalDate.now().plusMonths(1));
+        job.setPostedBy(admin);
+        return job;
+    }
+    
+    private User student(String username) {
+        User student = new User();
+        student.setUsername(username);
+        student.setPassword("unused");
+        student.setEmail(username + "@example.edu");
+        student.setFullName("Student " + username);
+        student.setRole(User.Role.STUDENT);
+        return userRepository.save(student);
+    }
+    
+    private static Application application(User student, JobPosting job) {
+        Application application = new Application();
+        application.setStudent(student);
+        application.setJob(job);
+        application.setCoverLetter("Available every afternoon");
+        application.setStatus(Application.Status.PENDING);
+        return application;
+    }
+}
@@ -0,0 +1,143 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.JobFacetResult;
+import com.workstudy.dto.JobPostingView;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.repository.JobPostingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.workstudy.service.JobSearchIndexTest.view;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobFacetIndexTest {
+    private static final int LIBRARY_JOBS = 30;
+    private static final int SCIENCE_JOBS = 20;
+    private static final long MOVING_JOB = 1000L;
+    
+    private JobFacetIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        List<JobPostingView> jobs = new ArrayList<>();
+        for (long id = 1; id <= LIBRARY_JOBS; id++) {
+            jobs.add(view(id, "Shelving Assistant", "Library", "Main Library", "11.50", 10, 2, 0));
+        }
+        for (long id = 101; id <= 100 + SCIENCE_JOBS; id++) {
+            jobs.add(view(id, "Lab Monitor", "Science", "Science Hall", "16.00", 12, 6, 0));
+        }
+        JobPostingRepository repository = mock(JobPostingRepository.class);
+        when(repository.findViewsByStatus(JobPosting.Status.ACTIVE)).thenReturn(jobs);
+        index = new JobFacetIndex(repository);
+        index.rebuild();
+    }
+    
+    @Test
+    void countsIgnoreTheFacetsOwnSelection() {
+        JobFacetResult result = index.find(Map.of(JobFacetIndex.Facet.DEPARTMENT, Set.of("Library")), null, 10);
+        
+        assertThat(result.total()).isEqualTo(LIBRARY_JOBS);
+        assertThat(result.items()).hasSize(10).allMatch(job -> job.department().equals("Library"));
+        assertThat(result.items().get(0).id()).isEqualTo(LIBRARY_JOBS);
+        assertThat(result.facets().get("department"))
+                .containsExactly(new JobFacetResult.FacetCount("Library", LIBRARY_JOBS),
+                        new JobFacetResult.FacetCount("Science", SCIENCE_JOBS));
+        // Other facets are narrowed to the selection, keeping values it rules out at zero
+        assertThat(result.facets().get("rate")).containsExactly(new JobFacetResult.FacetCount("0-12", LIBRARY_JOBS),
+                new JobFacetResult.FacetCount("15-18", 0));
+        assertThat(result.facets().get("openings")).containsExactly(new JobFacetResult.FacetCount("2-4", LIBRARY_JOBS),
+                new JobFacetResult.FacetCount("5-plus", 0));
+    }
+    
+    @Test
+    void updateDropsPostingsThatAreNoLongerActive() {
+        JobPostingView job = view(1L, "Shelving Assistant", "Library", "Main Library", "11.50", 10, 2, 2);
+        index.update(1L, new JobPostingView(job.id(), job.title(), job.description(), job.department(), job.location(),
+                job.hourlyRate(), job.maxHoursPerWeek(), job.totalPositions(), job.filledPositions(),
+                job.applicationDeadline(), JobPosting.Status.FILLED, null, null, null));
+        
+        assertThat(index.find(Map.of(), null, 10).total()).isEqualTo(LIBRARY_JOBS + SCIENCE_JOBS - 1);
+    }
+    
+    @Test
+    void pagesFollowIdsRatherThanSlots() {
+        // Takes the slot freed by the first library posting
+        index.update(1L, null);
+        index.update(500L, view(500L, "Lab Monitor", "Science", "Science Hall", "16.00", 12, 6, 0));
+        Map<JobFacetIndex.Facet, Set<String>> science = Map.of(JobFacetIndex.Facet.DEPARTMENT, Set.of("Science"));
+        
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            JobFacetResult page = index.find(science, cursor, 8);
+            page.items().forEach(job -> ids.add(job.id()));
+            cursor = page.next();
+        } while (cursor != null);
+        
+        assertThat(ids).hasSize(SCIENCE_JOBS + 1).startsWith(500L, 100L + SCIENCE_JOBS).endsWith(101L)
+                .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+    
+    @Test
+    void queriesDuringUpdatesSeeConsistentCounts() throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Queue<String> problems = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        
+        executor.execute(() -> {
+            try {
+                for (int i = 0; i < 20_000; i++) {
+                    // Moves one posting between departments, and drops it now and then so its slot is reused
+                    String department = i % 2 == 0 ? "Library" : "Science";
+                    index.update(MOVING_JOB, i % 7 == 0 ? null
+                            : view(MOVING_JOB, "Floater", department, "Annex", "13.00", 8, 1, 0));
+                }
+            } finally {
+                running.set(false);
+                done.countDown();
+            }
+        });
+        for (int reader = 0; reader < 3; reader++) {
+            executor.execute(() -> {
+                while (running.get()) {
+                    try {
+                        JobFacetResult all = index.find(Map.of(), null, 200);
+                        long departmentTotal = all.facets().get("department").stream()
+                                .mapToLong(JobFacetResult.FacetCount::count).sum();
+                        if (all.total() != departmentTotal || all.total() != all.items().size()
+                                || all.total() < LIBRARY_JOBS + SCIENCE_JOBS
+                                || all.total() > LIBRARY_JOBS + SCIENCE_JOBS + 1) {
+                            problems.add("total " + all.total() + ", department counts " + departmentTotal
+                                    + ", items " + all.items().size());
+                        }
+                        JobFacetResult science = index.find(Map.of(JobFacetIndex.Facet.DEPARTMENT, Set.of("Science")), null, 200);
+                        if (!science.items().stream().allMatch(job -> job.department().equals("Science"))) {
+                            problems.add("science filter returned another department");
+                        }
+                    } catch (RuntimeException e) {
+                        problems.add(e.toString());
+                    }
+                }
+            });
+        }
+        assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(problems).isEmpty();
+    }
+}
@@ -0,0 +1,118 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.JobPostingView;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.repository.JobPostingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSearchIndexTest {
+    private static final int STABLE_JOBS = 50;
+    private static final long MOVING_JOB = 1000L;
+    
+    private JobSearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        List<JobPostingView> jobs = new ArrayList<>();
+        for (long id = 1; id <= STABLE_JOBS; id++) {
+            jobs.add(view(id, "Library Shelving Assistant", "Library", "Main Library", "15.00", 10, 2, 0));
+        }
+        jobs.add(view(100L, "Lab Monitor", "Computer Science", "Science Hall", "16.00", 12, 1, 0));
+        jobs.add(view(101L, "Campus Tour Guide", "Admissions", "Library Lawn", "14.00", 8, 3, 0));
+        JobPostingRepository repository = mock(JobPostingRepository.class);
+        when(repository.findAllViews()).thenReturn(jobs);
+        index = new JobSearchIndex(repository);
+        index.rebuild();
+    }
+    
+    @Test
+    void ranksTitleMatchesFirstAndMatchesPrefixes() {
+        assertThat(index.search("library", null, 3)).first().extracting(JobPostingView::title)
+                .isEqualTo("Library Shelving Assistant");
+        assertThat(index.search("libr", null, 100)).hasSize(STABLE_JOBS + 1);
+        assertThat(index.search("lab monitor", null, 10)).extracting(JobPostingView::id).containsExactly(100L);
+        assertThat(index.search("lab missing", null, 10)).isEmpty();
+    }
+    
+    @Test
+    void updateReplacesAndDeleteFreesThePosting() {
+        index.update(100L, view(100L, "Lab Supervisor", "Computer Science", "Science Hall", "16.00", 12, 1, 0));
+        assertThat(index.search("monitor", null, 10)).isEmpty();
+        assertThat(index.search("supervisor", null, 10)).extracting(JobPostingView::id).containsExactly(100L);
+        
+        index.update(100L, null);
+        index.update(102L, view(102L, "Greenhouse Helper", "Biology", "Greenhouse", "13.00", 6, 1, 0));
+        assertThat(index.search("supervisor", null, 10)).isEmpty();
+        assertThat(index.search("greenhouse", null, 10)).extracting(JobPostingView::id).containsExactly(102L);
+    }
+    
+    @Test
+    void searchesDuringUpdatesOnlySeeWholePostings() throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Queue<String> problems = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        
+        executor.execute(() -> {
+            try {
+                for (int i = 0; i < 20_000; i++) {
+                    // Alternates the moving posting's words, and deletes it now and then so its slot is reused
+                    String title = i % 2 == 0 ? "Alpha Shelving Clerk" : "Beta Shelving Clerk";
+                    index.update(MOVING_JOB, i % 7 == 0 ? null
+                            : view(MOVING_JOB, title, "Library", "Annex", "15.00", 10, 1, 0));
+                }
+            } finally {
+                running.set(false);
+                done.countDown();
+            }
+        });
+        for (int reader = 0; reader < 3; reader++) {
+            executor.execute(() -> {
+                while (running.get()) {
+                    try {
+                        List<JobPostingView> shelving = index.search("shelving", null, 200);
+                        long stable = shelving.stream().filter(job -> job.id() != MOVING_JOB).count();
+                        if (stable != STABLE_JOBS) {
+                            problems.add("saw " + stable + " of the unchanged postings");
+                        }
+                        for (JobPostingView job : index.search("alpha", null, 10)) {
+                            if (!job.title().startsWith("Alpha")) {
+                                problems.add("alpha matched " + job.title());
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        problems.add(e.toString());
+                    }
+                }
+            });
+        }
+        assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(problems).isEmpty();
+    }
+    
+    static JobPostingView view(long id, String title, String department, String location, String rate,
+                               int maxHoursPerWeek, int totalPositions, int filledPositions) {
+        return new JobPostingView(id, title, title + " for the " + department + " department", department, location,
+                new BigDecimal(rate), maxHoursPerWeek, totalPositions, filledPositions, LocalDate.of(2030, 1, 1),
+                JobPosting.Status.ACTIVE, null, null, null);
+    }
+}
@@ -0,0 +1,194 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.PayrollLineView;
+import com.workstudy.dto.PayrollRunRequest;
+import com.workstudy.dto.PayrollRunView;
+import com.workstudy.dto.PayrollTotals;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.entity.User;
+import com.workstudy.entity.WorkHours;
+import com.workstudy.repository.JobPostingRepository;
+import com.workstudy.repository.PayrollLineRepository;
+import com.workstudy.repository.UserRepository;
+import com.workstudy.repository.WorkHoursRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pay periods lie years ahead of the seeded data, so each run only sees the hours
+ * logged here.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class PayrollServiceTest {
+    @Autowired
+    private PayrollService payrollService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    
+    @Autowired
+    private WorkHoursRepository workHoursRepository;
+    
+    @Autowired
+    private PayrollLineRepository payrollLineRepository;
+    
+    @Test
+    void grossPayIsRoundedHalfUpToCents() {
+        assertThat(PayrollService.grossPay(new BigDecimal("3.33"), new BigDecimal("15.75"))).isEqualByComparingTo("52.45");
+        assertThat(PayrollService.grossPay(new BigDecimal("1.25"), new BigDecimal("15.75"))).isEqualByComparingTo("19.69");
+        assertThat(PayrollService.grossPay(new BigDecimal("0.10"), new BigDecimal("12.05"))).isEqualByComparingTo("1.21");
+        assertThat(PayrollService.grossPay(BigDecimal.ZERO, new BigDecimal("15.75"))).isEqualByComparingTo("0.00");
+        assertThat(PayrollService.grossPay(new BigDecimal("3.33"), new BigDecimal("15.75")).scale()).isEqualTo(2);
+    }
+    
+    @Test
+    void recomputeAppendsARevisionThatReplacesTheStudentsLines() {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        JobPosting library = jobPostingRepository.save(job(admin, "Library Aide", "15.75"));
+        JobPosting lab = jobPostingRepository.save(job(admin, "Lab Aide", "12.10"));
+        User first = student("payroll-first");
+        User second = student("payroll-second");
+        LocalDate day = LocalDate.of(2031, 3, 3);
+        workHours(first, library, day, "3.33");
+        workHours(first, library, day.plusDays(1), "2.00");
+        WorkHours labShift = workHours(first, lab, day.plusDays(2), "4.50");
+        workHours(second, library, day, "1.25");
+        
+        PayrollRunView run = payrollService.createRun(period(day), admin);
+        
+        // 5.33 h x 15.75 = 83.9475, 4.50 h x 12.10 = 54.45, 1.25 h x 15.75 = 19.6875
+        List<PayrollLineView> lines = currentLines(run.id());
+        assertThat(lines).extracting(PayrollLineView::grossPay)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyInAnyOrder(new BigDecimal("83.95"), new BigDecimal("54.45"), new BigDecimal("19.69"));
+        assertThat(run.computed().studentCount()).isEqualTo(2);
+        assertThat(run.computed().lineCount()).isEqualTo(3);
+        assertThat(run.computed().totalHours()).isEqualByComparingTo(sum(lines, PayrollLineView::hours));
+        assertThat(run.computed().totalGross()).isEqualByComparingTo(sum(lines, PayrollLineView::grossPay))
+                .isEqualByComparingTo("158.09");
+        
+        labShift.setStatus(WorkHours.Status.REJECTED);
+        workHoursRepository.save(labShift);
+        List<PayrollLineView> recomputed = payrollService.recomputeStudent(run.id(), first.getId());
+        
+        assertThat(recomputed).extracting(line -> line.job().id() + ":" + line.hours().stripTrailingZeros().toPlainString()
+                        + ":" + line.grossPay() + ":" + line.revision())
+                .containsExactlyInAnyOrder(library.getId() + ":5.33:83.95:2", lab.getId() + ":0:0.00:2");
+        assertThat(currentLines(run.id())).extracting(line -> line.student().id() + ":" + line.revision())
+                .containsExactlyInAnyOrder(first.getId() + ":2", first.getId() + ":2", second.getId() + ":1");
+        
+        PayrollTotals current = payrollService.findById(run.id()).current();
+        assertThat(current.studentCount()).isEqualTo(2);
+        assertThat(current.lineCount()).isEqualTo(3);
+        assertThat(current.totalHours()).isEqualByComparingTo("6.58");
+        assertThat(current.totalGross()).isEqualByComparingTo("103.64");
+        assertThat(payrollService.findById(run.id()).computed().totalGross()).isEqualByComparingTo("158.09");
+    }
+    
+    @Test
+    void concurrentRecomputesOfOneStudentTakeSuccessiveRevisions() throws Exception {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        JobPosting job = jobPostingRepository.save(job(admin, "Front Desk", "14.00"));
+        User student = student("payroll-concurrent");
+        LocalDate day = LocalDate.of(2032, 5, 3);
+        workHours(student, job, day, "2.50");
+        PayrollRunView run = payrollService.createRun(period(day), admin);
+        
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<PayrollLineView>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return payrollService.recomputeStudent(run.id(), student.getId());
+                }));
+            }
+            start.countDown();
+            for (Future<List<PayrollLineView>> result : results) {
+                assertThat(result.get(1, TimeUnit.MINUTES)).hasSize(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        assertThat(payrollLineRepository.findLatestRevision(run.id(), student.getId())).isEqualTo(threads + 1);
+        assertThat(payrollService.findStudentLines(run.id(), student.getId()))
+                .singleElement()
+                .satisfies(line -> {
+                    assertThat(line.revision()).isEqualTo(threads + 1);
+                    assertThat(line.grossPay()).isEqualByComparingTo("35.00");
+                });
+    }
+    
+    private List<PayrollLineView> currentLines(Long runId) {
+        return payrollLineRepository.findCurrentViews(runId, Long.MAX_VALUE, Limit.of(100));
+    }
+    
+    private static BigDecimal sum(List<PayrollLineView> lines, Function<PayrollLineView, BigDecimal> value) {
+        return lines.stream().map(value).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+    
+    private static PayrollRunRequest period(LocalDate day) {
+        PayrollRunRequest request = new PayrollRunRequest();
+        request.setPeriodStart(day.withDayOfMonth(1));
+        request.setPeriodEnd(day.withDayOfMonth(day.lengthOfMonth()));
+        return request;
+    }
+    
+    private static JobPosting job(User admin, String title, String rate) {
+        JobPosting job = new JobPosting();
+        job.setTitle(title);
+        job.setDescription("Payroll test");
+        job.setDepartment("Payroll Testing");
+        job.setLocation("Office");
+        job.setHourlyRate(new BigDecimal(rate));
+        job.setMaxHoursPerWeek(20);
+        job.setTotalPositions(1);
+        job.setApplicationDeadline(LocalDate.now().plusMonths(1));
+        job.setPostedBy(admin);
+        return job;
+    }
+    
+    private User student(String username) {
+        User student = new User();
+        student.setUsername(username);
+        student.setPassword("unused");
+        student.setEmail(username + "@example.edu");
+        student.setFullName("Student " + username);
+        student.setRole(User.Role.STUDENT);
+        return userRepository.save(student);
+    }
+    
+    private WorkHours workHours(User student, JobPosting job, LocalDate day, String hours) {
+        WorkHours entry = new WorkHours();
+        entry.setStudent(student);
+        entry.setJob(job);
+        entry.setWorkDate(day);
+        entry.setStartTime(LocalTime.of(9, 0));
+        entry.setEndTime(LocalTime.of(9, 0).plusMinutes(new BigDecimal(hours).multiply(BigDecimal.valueOf(60)).longValue()));
+        entry.setHoursWorked(new BigDecimal(hours));
+        entry.setStatus(WorkHours.Status.APPROVED);
+        return workHoursRepository.save(entry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.WorkHoursShift;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShiftIntervalsTest {
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 8);
+    
+    @Test
+    void findsOverlapThroughTheRunningMaximum() {
+        WorkHoursShift longShift = shift(1, "08:00", "16:00");
+        ShiftIntervals day = new ShiftIntervals(List.of(shift(2, "09:00", "10:00"), longShift, shift(3, "11:00", "12:00")));
+        
+        assertThat(day.findOverlap(time("13:00"), time("14:00"))).contains(longShift);
+        assertThat(day.findOverlap(time("16:00"), time("17:00"))).isEmpty();
+        assertThat(day.findOverlap(time("07:00"), time("08:00"))).isEmpty();
+    }
+    
+    @Test
+    void ignoresReversedShifts() {
+        ShiftIntervals day = new ShiftIntervals(List.of(shift(1, "08:00", "09:00"), shift(2, "23:00", "22:00")));
+        
+        assertThat(day.findOverlap(time("21:00"), time("23:30"))).isEmpty();
+        assertThat(day.findOverlap(time("08:30"), time("23:30"))).map(WorkHoursShift::id).contains(1L);
+    }
+    
+    @Test
+    void rejectsReversedQuery() {
+        ShiftIntervals day = new ShiftIntervals(List.of(shift(1, "08:00", "09:00")));
+        
+        assertThatThrownBy(() -> day.findOverlap(time("17:00"), time("09:00"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> day.findOverlap(time("09:00"), time("09:00"))).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    static WorkHoursShift shift(long id, String start, String end) {
+        return new WorkHoursShift(id, 1L, 1L, DAY, time(start), time(end));
+    }
+    
+    private static LocalTime time(String value) {
+        return LocalTime.parse(value);
+    }
+}
@@ -0,0 +1,59 @@
+package com.workstudy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.workstudy.dto.WorkHoursStatusSnapshot;
+import com.workstudy.entity.WorkHours;
+import com.workstudy.security.TokenEpochs;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class StatusEventServiceTest {
+    private MeterRegistry meterRegistry;
+    private StatusEventService statusEventService;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // A buffer of one event: anything but a single event per bulk update overflows it
+        statusEventService = new StatusEventService(Duration.ofMinutes(1), 1,
+                new ObjectMapper().registerModule(new JavaTimeModule()), mock(TokenEpochs.class), meterRegistry);
+    }
+    
+    @Test
+    void bulkUpdateIsOneEventPerSubscriber() {
+        statusEventService.subscribe(1L, true);
+        statusEventService.subscribe(2L, false);
+        statusEventService.subscribe(3L, false);
+        List<WorkHoursStatusSnapshot> before = LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> new WorkHoursStatusSnapshot(id, WorkHours.Status.PENDING, BigDecimal.ONE, 2 + id % 2))
+                .toList();
+        
+        statusEventService.workHoursStatusesChanged(before, WorkHours.Status.APPROVED);
+        
+        assertThat(meterRegistry.counter("workstudy.sse.dropped").count()).isZero();
+        assertThat(meterRegistry.get("workstudy.sse.connections").gauge().value()).isEqualTo(3);
+    }
+    
+    @Test
+    void subscriberThatFallsBehindIsDropped() {
+        statusEventService.subscribe(1L, true);
+        
+        for (long id = 1; id <= 500; id++) {
+            statusEventService.workHoursStatusChanged(id, 2L, WorkHours.Status.PENDING, WorkHours.Status.APPROVED);
+        }
+        
+        assertThat(meterRegistry.counter("workstudy.sse.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("workstudy.sse.connections").gauge().value()).isZero();
+    }
+}
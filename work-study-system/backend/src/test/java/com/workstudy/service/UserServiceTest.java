@@ -0,0 +1,91 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.RegisterRequest;
+import com.workstudy.entity.User;
+import com.workstudy.repository.UserRepository;
+import com.workstudy.security.TokenEpochs;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @Mock
+    private DashboardStatsService dashboardStatsService;
+    
+    @Mock
+    private TokenEpochs tokenEpochs;
+    
+    @InjectMocks
+    private UserService userService;
+    
+    @Test
+    void duplicateUsernameIsRejectedBeforeHashing() {
+        when(userRepository.existsByUsername("student")).thenReturn(true);
+        
+        assertThatThrownBy(() -> userService.createStudent(request("student", "new@example.com")))
+                .hasMessage("Username already exists");
+        verifyNoInteractions(passwordEncoder, transactionTemplate);
+    }
+    
+    @Test
+    void duplicateEmailIsRejectedBeforeHashing() {
+        when(userRepository.existsByEmail("student@example.com")).thenReturn(true);
+        
+        assertThatThrownBy(() -> userService.createStudent(request("newcomer", "student@example.com")))
+                .hasMessage("Email already exists");
+        verifyNoInteractions(passwordEncoder, transactionTemplate);
+    }
+    
+    @Test
+    void newUserIsHashed() {
+        userService.createStudent(request("newcomer", "new@example.com"));
+        
+        verify(passwordEncoder).encode("password123");
+        verify(transactionTemplate).execute(any());
+    }
+    
+    @Test
+    void roleChangeAdjustsTheStudentCountAndRevokesTokens() {
+        User user = new User();
+        user.setId(7L);
+        user.setRole(User.Role.STUDENT);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).then(returnsFirstArg());
+        
+        userService.changeRole(7L, User.Role.ADMIN);
+        
+        verify(dashboardStatsService).roleChanged(User.Role.STUDENT, User.Role.ADMIN);
+        verify(tokenEpochs).bumped(7L, 1);
+    }
+    
+    private static RegisterRequest request(String username, String email) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(email);
+        request.setPassword("password123");
+        return request;
+    }
+}
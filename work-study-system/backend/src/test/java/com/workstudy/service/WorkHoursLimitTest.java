@@ -0,0 +1,174 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.WorkHoursImportEvent;
+import com.workstudy.dto.WorkHoursRequest;
+import com.workstudy.entity.JobPosting;
+import com.workstudy.entity.User;
+import com.workstudy.entity.WorkHours;
+import com.workstudy.repository.JobPostingRepository;
+import com.workstudy.repository.UserRepository;
+import com.workstudy.repository.WorkHoursRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The weekly hour limit of a job, for entries logged one by one, edited and
+ * imported, and the overlap check of imports. Each test uses its own student, in a
+ * week years ahead of the seeded data.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class WorkHoursLimitTest {
+    private static final AtomicInteger STUDENTS = new AtomicInteger();
+    // A Monday
+    private static final LocalDate WEEK = LocalDate.of(2033, 1, 3);
+    
+    @Autowired
+    private WorkHoursService workHoursService;
+    
+    @Autowired
+    private WorkHoursImportService workHoursImportService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    
+    @Autowired
+    private WorkHoursRepository workHoursRepository;
+    
+    private User student;
+    private JobPosting job;
+    
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        job = new JobPosting();
+        job.setTitle("Limited Hours");
+        job.setDescription("Ten hours a week");
+        job.setDepartment("Testing");
+        job.setLocation("Lab");
+        job.setHourlyRate(BigDecimal.valueOf(15));
+        job.setMaxHoursPerWeek(10);
+        job.setTotalPositions(1);
+        job.setApplicationDeadline(LocalDate.now().plusMonths(1));
+        job.setPostedBy(admin);
+        job = jobPostingRepository.save(job);
+        
+        String username = "limited" + STUDENTS.incrementAndGet();
+        student = new User();
+        student.setUsername(username);
+        student.setPassword("unused");
+        student.setEmail(username + "@example.edu");
+        student.setFullName("Student " + username);
+        student.setRole(User.Role.STUDENT);
+        student = userRepository.save(student);
+    }
+    
+    @Test
+    void hoursOverTheWeeklyLimitAreRejected() {
+        workHoursService.logWorkHours(request(WEEK, 9, 15), student);
+        
+        assertThatThrownBy(() -> workHoursService.logWorkHours(request(WEEK.plusDays(1), 9, 14), student))
+                .hasMessage("Weekly limit of 10 hours for this job exceeded: 6 hours already logged for the week of " + WEEK);
+        
+        workHoursService.logWorkHours(request(WEEK.plusDays(1), 9, 13), student);
+        workHoursService.logWorkHours(request(WEEK.plusDays(7), 9, 17), student);
+        assertThat(loggedHours()).isEqualByComparingTo("18");
+    }
+    
+    @Test
+    void rejectedEntriesDoNotCount() {
+        WorkHours rejected = workHoursService.logWorkHours(request(WEEK, 9, 17), student);
+        rejected.setStatus(WorkHours.Status.REJECTED);
+        workHoursRepository.save(rejected);
+        
+        workHoursService.logWorkHours(request(WEEK.plusDays(1), 9, 17), student);
+        
+        assertThatThrownBy(() -> workHoursService.logWorkHours(request(WEEK.plusDays(2), 9, 12), student))
+                .hasMessageStartingWith("Weekly limit of 10 hours");
+    }
+    
+    @Test
+    void anEditedEntryIsNotCountedTwice() {
+        WorkHours entry = workHoursService.logWorkHours(request(WEEK, 9, 17), student);
+        
+        WorkHours edited = workHoursService.updateWorkHours(entry.getId(), request(WEEK, 8, 17));
+        
+        assertThat(edited.getHoursWorked()).isEqualByComparingTo("9");
+        assertThatThrownBy(() -> workHoursService.updateWorkHours(entry.getId(), request(WEEK, 6, 17)))
+                .hasMessageStartingWith("Weekly limit of 10 hours");
+    }
+    
+    @Test
+    void importCountsCommittedEntriesAndEarlierRowsOfTheFile() throws Exception {
+        workHoursService.logWorkHours(request(WEEK, 9, 13), student);
+        String csv = "studentId,jobId,workDate,startTime,endTime\n"
+                + row(WEEK.plusDays(1), "09:00", "13:00")
+                + row(WEEK.plusDays(2), "09:00", "12:00")
+                + row(WEEK.plusDays(3), "09:00", "11:00")
+                + row(WEEK.plusDays(7), "09:00", "17:00");
+        List<WorkHoursImportEvent> events = new ArrayList<>();
+        
+        WorkHoursImportEvent summary = workHoursImportService.importCsv(new StringReader(csv), events::add);
+        
+        assertThat(summary.imported()).isEqualTo(3);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(events).filteredOn(event -> event.type() == WorkHoursImportEvent.Type.ERROR)
+                .extracting(event -> event.line() + ": " + event.message())
+                .containsExactly("3: Weekly limit of 10 hours for this job exceeded: 8 hours already logged for the week of " + WEEK);
+        assertThat(loggedHours()).isEqualByComparingTo("18");
+    }
+    
+    @Test
+    void importRejectsRowsOverlappingOtherShifts() throws Exception {
+        workHoursService.logWorkHours(request(WEEK, 9, 12), student);
+        String csv = "studentId,jobId,workDate,startTime,endTime\n"
+                + row(WEEK, "11:00", "13:00")
+                + row(WEEK, "12:00", "14:00")
+                + row(WEEK.plusDays(1), "09:00", "11:00")
+                + row(WEEK.plusDays(1), "10:00", "12:00");
+        List<WorkHoursImportEvent> events = new ArrayList<>();
+        
+        WorkHoursImportEvent summary = workHoursImportService.importCsv(new StringReader(csv), events::add);
+        
+        assertThat(summary.imported()).isEqualTo(2);
+        assertThat(events).filteredOn(event -> event.type() == WorkHoursImportEvent.Type.ERROR)
+                .extracting(event -> event.line() + ": " + event.message())
+                .containsExactly("2: This shift overlaps another entry on " + WEEK + " (09:00-12:00)",
+                        "5: This shift overlaps another entry on " + WEEK.plusDays(1) + " (09:00-11:00)");
+        assertThat(loggedHours()).isEqualByComparingTo("7");
+    }
+    
+    // Over both weeks, whatever the status but rejected
+    private BigDecimal loggedHours() {
+        return workHoursRepository.sumHoursWorkedForWeek(student.getId(), job.getId(), WEEK, WEEK.plusDays(13),
+                WorkHours.Status.REJECTED, -1L);
+    }
+    
+    private String row(LocalDate workDate, String start, String end) {
+        return student.getId() + "," + job.getId() + "," + workDate + "," + start + "," + end + "\n";
+    }
+    
+    private WorkHoursRequest request(LocalDate workDate, int startHour, int endHour) {
+        WorkHoursRequest request = new WorkHoursRequest();
+        request.setJobId(job.getId());
+        request.setWorkDate(workDate);
+        request.setStartTime(LocalTime.of(startHour, 0));
+        request.setEndTime(LocalTime.of(endHour, 0));
+        return request;
+    }
+}
@@ -0,0 +1,92 @@
+package com.workstudy.service;
+
+import com.workstudy.dto.WorkHoursBatchResult;
+import com.workstudy.dto.WorkHoursBatchStatusRequest;
+import com.workstudy.dto.WorkHoursOverlapReport;
+import com.workstudy.dto.WorkHoursStatusSnapshot;
+import com.workstudy.entity.User;
+import com.workstudy.entity.WorkHours;
+import com.workstudy.repository.WorkHoursRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.workstudy.service.ShiftIntervalsTest.shift;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkHoursServiceTest {
+    @Mock
+    private WorkHoursRepository workHoursRepository;
+    
+    @Mock
+    private DashboardStatsService dashboardStatsService;
+    
+    @Mock
+    private StatusEventService statusEventService;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @InjectMocks
+    private WorkHoursService workHoursService;
+    
+    @Test
+    void overlapScanListsReversedShiftsWithoutComparingThem() {
+        // Ordered by start time, as the query returns them
+        when(workHoursRepository.streamShifts(WorkHours.Status.REJECTED)).thenReturn(Stream.of(
+                shift(1, "08:00", "14:00"),
+                shift(2, "13:00", "12:30"),
+                shift(3, "13:30", "15:00"),
+                shift(4, "15:00", "16:00")));
+        
+        WorkHoursOverlapReport report = workHoursService.findOverlaps(10);
+        
+        assertThat(report.getScanned()).isEqualTo(4);
+        assertThat(report.getReversed()).extracting(shift -> shift.id()).containsExactly(2L);
+        assertThat(report.getOverlaps()).extracting(overlap -> overlap.first().id() + "-" + overlap.second().id())
+                .containsExactly("1-3");
+    }
+    
+    @Test
+    void filteredStatusUpdateSkipsEntriesChangedSinceTheyWereListed() {
+        LocalDate from = LocalDate.of(2026, 9, 1);
+        LocalDate to = LocalDate.of(2026, 9, 30);
+        when(workHoursRepository.findIdsByJobIdAndStatusAndWorkDateBetween(3L, WorkHours.Status.PENDING, from, to))
+                .thenReturn(List.of(1L, 2L, 3L));
+        // Entry 2 was rejected by someone else after the listing; entry 3 was deleted
+        when(workHoursRepository.lockStatusSnapshots(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new WorkHoursStatusSnapshot(1L, WorkHours.Status.PENDING, BigDecimal.ONE, 10L),
+                new WorkHoursStatusSnapshot(2L, WorkHours.Status.REJECTED, BigDecimal.ONE, 10L)));
+        when(transactionTemplate.execute(any())).then(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        WorkHoursBatchStatusRequest request = new WorkHoursBatchStatusRequest();
+        request.setStatus("APPROVED");
+        request.setJobId(3L);
+        request.setStartDate(from);
+        request.setEndDate(to);
+        User admin = new User();
+        
+        WorkHoursBatchResult result = workHoursService.updateStatuses(request, admin);
+        
+        verify(workHoursRepository).updateStatusByIds(eq(Set.of(1L)), eq(WorkHours.Status.APPROVED), isNull(), eq(admin), any());
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getItems()).extracting(item -> item.getId() + ":" + item.getMessage())
+                .containsExactly("1:null", "2:Status changed", "3:Work hours not found");
+    }
+}
@@ -0,0 +1,21 @@
+interface LoadMoreButtonProps {
+  cursor: string | null;
+  onLoadMore: (cursor: string) => void;
+}
+
+export function LoadMoreButton({ cursor, onLoadMore }: LoadMoreButtonProps) {
+  if (!cursor) {
+    return null;
+  }
+
+  return (
+    <div className="flex justify-center mt-6">
+      <button
+        onClick={() => onLoadMore(cursor)}
+        className="px-6 py-2 rounded-xl bg-white/5 border border-white/10 text-white/70 hover:bg-white/10 hover:text-white transition-colors"
+      >
+        Load more
+      </button>
+    </div>
+  );
+}
@@ -1,5 +1,6 @@
 import { useEffect, useState } from 'react';
 import { Navbar } from '../../components/Navbar';
+import { LoadMoreButton } from '../../components/LoadMoreButton';
 import {
   Dialog,
   DialogContent,
@@ -8,6 +9,7 @@ import {
 } from '@/components/ui/dialog';
 import { Label } from '@/components/ui/label';
 import { applicationService, Application, ApplicationStatusRequest } from '../../services/applicationService';
+import { eventService } from '../../services/eventService';
 import { toast } from 'sonner';
 import { CheckCircle, XCircle, Eye, FileText } from 'lucide-react';
 
@@ -38,6 +40,7 @@ const StatusBadge = ({ status }: { status: string }) => {
 
 export default function Applications() {
   const [applications, setApplications] = useState<Application[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [isLoading, setIsLoading] = useState(true);
   const [selectedApplication, setSelectedApplication] = useState<Application | null>(null);
   const [isDialogOpen, setIsDialogOpen] = useState(false);
@@ -47,10 +50,22 @@ export default function Applications() {
     loadApplications();
   }, []);
 
-  const loadApplications = async () => {
+  useEffect(
+    () =>
+      eventService.subscribe((event) => {
+        if (event.subject !== 'APPLICATION') return;
+        setApplications((prev) =>
+          prev.map((item) => (event.ids.has(item.id) ? { ...item, status: event.status as Application['status'] } : item))
+        );
+      }),
+    []
+  );
+
+  const loadApplications = async (cursor: string | null = null) => {
     try {
-      const data = await applicationService.getAllApplications();
-      setApplications(data);
+      const page = await applicationService.getAllApplications({ cursor });
+      setApplications((prev) => (cursor ? [...prev, ...page.items] : page.items));
+      setNextCursor(page.next);
     } catch (error) {
       toast.error('Failed to load applications');
     } finally {
@@ -152,6 +167,8 @@ export default function Applications() {
           </GlassCard>
         )}
 
+        <LoadMoreButton cursor={nextCursor} onLoadMore={loadApplications} />
+
         <Dialog open={isDialogOpen} onOpenChange={setIsDialogOpen}>
           <DialogContent className="max-w-2xl bg-slate-800/95 backdrop-blur-xl border-white/10 text-white">
             <DialogHeader>
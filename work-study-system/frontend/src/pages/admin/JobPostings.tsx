@@ -1,5 +1,6 @@
 import { useEffect, useState } from 'react';
 import { Navbar } from '../../components/Navbar';
+import { LoadMoreButton } from '../../components/LoadMoreButton';
 import { Input } from '@/components/ui/input';
 import { Label } from '@/components/ui/label';
 import { Textarea } from '@/components/ui/textarea';
@@ -40,6 +41,7 @@ const StatusBadge = ({ status }: { status: string }) => {
 
 export default function JobPostings() {
   const [jobs, setJobs] = useState<JobPosting[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [isLoading, setIsLoading] = useState(true);
   const [isDialogOpen, setIsDialogOpen] = useState(false);
   const [editingJob, setEditingJob] = useState<JobPosting | null>(null);
@@ -58,10 +60,11 @@ export default function JobPostings() {
     loadJobs();
   }, []);
 
-  const loadJobs = async () => {
+  const loadJobs = async (cursor: string | null = null) => {
     try {
-      const data = await jobService.getAllJobs();
-      setJobs(data);
+      const page = await jobService.getAllJobs({ cursor });
+      setJobs((prev) => (cursor ? [...prev, ...page.items] : page.items));
+      setNextCursor(page.next);
     } catch (error) {
       toast.error('Failed to load jobs');
     } finally {
@@ -330,6 +333,8 @@ export default function JobPostings() {
             </div>
           </GlassCard>
         )}
+
+        <LoadMoreButton cursor={nextCursor} onLoadMore={loadJobs} />
       </div>
     </div>
   );
@@ -1,5 +1,6 @@
 import { useEffect, useState } from 'react';
 import { Navbar } from '../../components/Navbar';
+import { LoadMoreButton } from '../../components/LoadMoreButton';
 import {
   Dialog,
   DialogContent,
@@ -8,6 +9,7 @@ import {
 } from '@/components/ui/dialog';
 import { Label } from '@/components/ui/label';
 import { workHoursService, WorkHours, WorkHoursStatusRequest } from '../../services/workHoursService';
+import { eventService } from '../../services/eventService';
 import { toast } from 'sonner';
 import { CheckCircle, XCircle, Eye, Clock } from 'lucide-react';
 
@@ -37,6 +39,7 @@ const StatusBadge = ({ status }: { status: string }) => {
 
 export default function AdminWorkHours() {
   const [workHours, setWorkHours] = useState<WorkHours[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [isLoading, setIsLoading] = useState(true);
   const [selectedEntry, setSelectedEntry] = useState<WorkHours | null>(null);
   const [isDialogOpen, setIsDialogOpen] = useState(false);
@@ -46,10 +49,22 @@ export default function AdminWorkHours() {
     loadWorkHours();
   }, []);
 
-  const loadWorkHours = async () => {
+  useEffect(
+    () =>
+      eventService.subscribe((event) => {
+        if (event.subject !== 'WORK_HOURS') return;
+        setWorkHours((prev) =>
+          prev.map((item) => (event.ids.has(item.id) ? { ...item, status: event.status as WorkHours['status'] } : item))
+        );
+      }),
+    []
+  );
+
+  const loadWorkHours = async (cursor: string | null = null) => {
     try {
-      const data = await workHoursService.getAllWorkHours();
-      setWorkHours(data);
+      const page = await workHoursService.getAllWorkHours({ cursor });
+      setWorkHours((prev) => (cursor ? [...prev, ...page.items] : page.items));
+      setNextCursor(page.next);
     } catch (error) {
       toast.error('Failed to load work hours');
     } finally {
@@ -151,6 +166,8 @@ export default function AdminWorkHours() {
           </GlassCard>
         )}
 
+        <LoadMoreButton cursor={nextCursor} onLoadMore={loadWorkHours} />
+
         <Dialog open={isDialogOpen} onOpenChange={setIsDialogOpen}>
           <DialogContent className="max-w-2xl bg-slate-800/95 backdrop-blur-xl border-white/10 text-white">
             <DialogHeader>
@@ -7,10 +7,11 @@ import {
   DialogTitle,
 } from '@/components/ui/dialog';
 import { Label } from '@/components/ui/label';
-import { jobService, JobPosting } from '../../services/jobService';
+import { Input } from '@/components/ui/input';
+import { jobService, JobFacet, JobFacetResult, JobFacetSelection, JobPosting } from '../../services/jobService';
 import { applicationService, ApplicationRequest } from '../../services/applicationService';
 import { toast } from 'sonner';
-import { MapPin, DollarSign, Clock, Users, Calendar, Briefcase, Send } from 'lucide-react';
+import { MapPin, DollarSign, Clock, Users, Calendar, Briefcase, Send, Search } from 'lucide-react';
 
 // Glassmorphism Card
 const GlassCard = ({ children, className = '', hover = true }: { children: React.ReactNode; className?: string; hover?: boolean }) => (
@@ -36,6 +37,14 @@ const StatusBadge = ({ status }: { status: string }) => {
   );
 };
 
+const FACET_LABELS: Record<JobFacet, string> = {
+  department: 'Department',
+  location: 'Location',
+  rate: 'Hourly rate ($)',
+  hours: 'Hours per week',
+  openings: 'Open positions',
+};
+
 export default function BrowseJobs() {
   const [jobs, setJobs] = useState<JobPosting[]>([]);
   const [isLoading, setIsLoading] = useState(true);
@@ -43,11 +52,55 @@ export default function BrowseJobs() {
   const [isDialogOpen, setIsDialogOpen] = useState(false);
   const [coverLetter, setCoverLetter] = useState('');
   const [isSubmitting, setIsSubmitting] = useState(false);
+  const [query, setQuery] = useState('');
+  const [searchResults, setSearchResults] = useState<JobPosting[] | null>(null);
+  const [selection, setSelection] = useState<JobFacetSelection>({});
+  const [facetResult, setFacetResult] = useState<JobFacetResult | null>(null);
 
   useEffect(() => {
     loadJobs();
   }, []);
 
+  useEffect(() => {
+    jobService.getActiveJobsByFacets(selection, { limit: 200 })
+      .then(setFacetResult)
+      .catch(() => toast.error('Failed to load filters'));
+  }, [selection]);
+
+  const hasSelection = Object.values(selection).some((values) => values && values.length > 0);
+
+  const toggleFacet = (facet: JobFacet, value: string) => {
+    setSelection((current) => {
+      const values = current[facet] ?? [];
+      return {
+        ...current,
+        [facet]: values.includes(value) ? values.filter((v) => v !== value) : [...values, value],
+      };
+    });
+  };
+
+  useEffect(() => {
+    if (!query.trim()) {
+      setSearchResults(null);
+      return;
+    }
+    let cancelled = false;
+    const timer = setTimeout(async () => {
+      try {
+        const results = await jobService.searchJobs(query, 'ACTIVE', 50);
+        if (!cancelled) setSearchResults(results);
+      } catch (error) {
+        if (!cancelled) toast.error('Search failed');
+      }
+    }, 200);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [query]);
+
+  const visibleJobs = searchResults ?? (hasSelection ? facetResult?.items ?? [] : jobs);
+
   const loadJobs = async () => {
     try {
       const data = await jobService.getActiveJobs();
@@ -101,19 +154,60 @@ export default function BrowseJobs() {
           <p className="text-white/60">Find work-study opportunities that match your interests.</p>
         </div>
 
+        <div className="relative mb-8 max-w-xl">
+          <Search className="absolute left-3 top-1/2 -translate-y-1/2 h-4 w-4 text-white/40" />
+          <Input
+            type="search"
+            value={query}
+            onChange={(e) => setQuery(e.target.value)}
+            placeholder="Search by title, department, location or keyword"
+            className="pl-9 bg-white/10 border-white/20 text-white placeholder:text-white/30"
+          />
+        </div>
+
+        {facetResult && !searchResults && (
+          <div className="space-y-3 mb-8">
+            {(Object.keys(FACET_LABELS) as JobFacet[]).map((facet) => (
+              <div key={facet} className="flex flex-wrap items-center gap-2">
+                <span className="text-sm text-white/50 w-36">{FACET_LABELS[facet]}</span>
+                {facetResult.facets[facet].map(({ value, count }) => {
+                  const active = selection[facet]?.includes(value) ?? false;
+                  return (
+                    <button
+                      key={value}
+                      type="button"
+                      onClick={() => toggleFacet(facet, value)}
+                      disabled={count === 0 && !active}
+                      className={`px-3 py-1 rounded-full text-xs border transition-colors disabled:opacity-30 ${
+                        active
+                          ? 'bg-cyan-500/30 border-cyan-400/50 text-cyan-100'
+                          : 'bg-white/5 border-white/10 text-white/70 hover:bg-white/10'
+                      }`}
+                    >
+                      {value} <span className="text-white/40">({count})</span>
+                    </button>
+                  );
+                })}
+              </div>
+            ))}
+          </div>
+        )}
+
         {isLoading ? (
           <div className="flex flex-col items-center justify-center py-20">
             <div className="w-12 h-12 border-4 border-cyan-500/30 border-t-cyan-500 rounded-full animate-spin" />
             <p className="mt-4 text-white/50">Loading jobs...</p>
           </div>
-        ) : jobs.length === 0 ? (
+        ) : visibleJobs.length === 0 ? (
           <GlassCard className="p-12 text-center" hover={false}>
             <Briefcase className="w-12 h-12 text-white/20 mx-auto mb-4" />
-            <p className="text-white/60">No jobs available at the moment.</p>
+            <p className="text-white/60">
+              {searchResults || hasSelection ? 'No jobs match your search.' : 'No jobs available at the moment.'}
+            </p>
           </GlassCard>
         ) : (
           <div className="grid md:grid-cols-2 lg:grid-cols-3 gap-6">
-            {jobs.map((job) => (
+            {visibleJobs.map((job) => (
               <GlassCard key={job.id} className="p-6 flex flex-col">
                 <div className="flex justify-between items-start mb-3">
                   <h3 className="text-xl font-semibold text-white">{job.title}</h3>
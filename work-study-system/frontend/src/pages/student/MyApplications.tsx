@@ -1,6 +1,7 @@
 import { useEffect, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Navbar } from '../../components/Navbar';
+import { LoadMoreButton } from '../../components/LoadMoreButton';
 import { Label } from '@/components/ui/label';
 import {
   Dialog,
@@ -9,6 +10,7 @@ import {
   DialogTitle,
 } from '@/components/ui/dialog';
 import { applicationService, Application } from '../../services/applicationService';
+import { eventService } from '../../services/eventService';
 import { toast } from 'sonner';
 import { Eye, XCircle, FileText } from 'lucide-react';
 
@@ -39,6 +41,7 @@ const StatusBadge = ({ status }: { status: string }) => {
 
 export default function MyApplications() {
   const [applications, setApplications] = useState<Application[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [isLoading, setIsLoading] = useState(true);
   const [selectedApplication, setSelectedApplication] = useState<Application | null>(null);
   const [isDialogOpen, setIsDialogOpen] = useState(false);
@@ -48,10 +51,23 @@ export default function MyApplications() {
     loadApplications();
   }, []);
 
-  const loadApplications = async () => {
+  useEffect(
+    () =>
+      eventService.subscribe((event) => {
+        if (event.subject !== 'APPLICATION') return;
+        setApplications((prev) =>
+          prev.map((item) => (event.ids.has(item.id) ? { ...item, status: event.status as Application['status'] } : item))
+        );
+        toast.info(`An application is now ${event.status.toLowerCase()}`);
+      }),
+    []
+  );
+
+  const loadApplications = async (cursor: string | null = null) => {
     try {
-      const data = await applicationService.getMyApplications();
-      setApplications(data);
+      const page = await applicationService.getMyApplications({ cursor });
+      setApplications((prev) => (cursor ? [...prev, ...page.items] : page.items));
+      setNextCursor(page.next);
     } catch (error) {
       toast.error('Failed to load applications');
     } finally {
@@ -147,6 +163,8 @@ export default function MyApplications() {
           </GlassCard>
         )}
 
+        <LoadMoreButton cursor={nextCursor} onLoadMore={loadApplications} />
+
         <Dialog open={isDialogOpen} onOpenChange={setIsDialogOpen}>
           <DialogContent className="max-w-2xl bg-slate-800/95 backdrop-blur-xl border-white/10 text-white">
             <DialogHeader>
@@ -1,5 +1,6 @@
 import { useEffect, useState } from 'react';
 import { Navbar } from '../../components/Navbar';
+import { LoadMoreButton } from '../../components/LoadMoreButton';
 import { feedbackService, Feedback } from '../../services/feedbackService';
 import { toast } from 'sonner';
 import { Star, Briefcase, Calendar, MessageSquare } from 'lucide-react';
@@ -17,16 +18,18 @@ const GlassCard = ({ children, className = '', hover = true }: { children: React
 
 export default function MyFeedback() {
   const [feedback, setFeedback] = useState<Feedback[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [isLoading, setIsLoading] = useState(true);
 
   useEffect(() => {
     loadFeedback();
   }, []);
 
-  const loadFeedback = async () => {
+  const loadFeedback = async (cursor: string | null = null) => {
     try {
-      const data = await feedbackService.getMyFeedback();
-      setFeedback(data);
+      const page = await feedbackService.getMyFeedback({ cursor });
+      setFeedback((prev) => (cursor ? [...prev, ...page.items] : page.items));
+      setNextCursor(page.next);
     } catch (error) {
       toast.error('Failed to load feedback');
     } finally {
@@ -129,6 +132,8 @@ export default function MyFeedback() {
             ))}
           </div>
         )}
+
+        <LoadMoreButton cursor={nextCursor} onLoadMore={loadFeedback} />
       </div>
     </div>
   );
@@ -1,5 +1,6 @@
 import { useEffect, useState } from 'react';
 import { Navbar } from '../../components/Navbar';
+import { LoadMoreButton } from '../../components/LoadMoreButton';
 import { Input } from '@/components/ui/input';
 import { Label } from '@/components/ui/label';
 import {
@@ -11,6 +12,7 @@ import {
 } from '@/components/ui/dialog';
 import { workHoursService, WorkHours, WorkHoursRequest } from '../../services/workHoursService';
 import { jobService, JobPosting } from '../../services/jobService';
+import { eventService } from '../../services/eventService';
 import { toast } from 'sonner';
 import { Plus, Trash2, Clock } from 'lucide-react';
 
@@ -40,6 +42,7 @@ const StatusBadge = ({ status }: { status: string }) => {
 
 export default function MyWorkHours() {
   const [workHours, setWorkHours] = useState<WorkHours[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [jobs, setJobs] = useState<JobPosting[]>([]);
   const [totalHours, setTotalHours] = useState(0);
   const [isLoading, setIsLoading] = useState(true);
@@ -56,14 +59,32 @@ export default function MyWorkHours() {
     loadData();
   }, []);
 
+  useEffect(
+    () =>
+      eventService.subscribe((event) => {
+        if (event.subject !== 'WORK_HOURS') return;
+        setWorkHours((prev) =>
+          prev.map((item) => (event.ids.has(item.id) ? { ...item, status: event.status as WorkHours['status'] } : item))
+        );
+        toast.info(
+          event.ids.size === 1
+            ? `A work-hours entry is now ${event.status.toLowerCase()}`
+            : `${event.ids.size} work-hours entries are now ${event.status.toLowerCase()}`
+        );
+        workHoursService.getMyTotalHours().then(setTotalHours).catch(() => {});
+      }),
+    []
+  );
+
   const loadData = async () => {
     try {
-      const [hoursData, jobsData, totalData] = await Promise.all([
+      const [hoursPage, jobsData, totalData] = await Promise.all([
         workHoursService.getMyWorkHours(),
-        jobService.getAllJobs(),
+        jobService.fetchAllJobs(),
         workHoursService.getMyTotalHours(),
       ]);
-      setWorkHours(hoursData);
+      setWorkHours(hoursPage.items);
+      setNextCursor(hoursPage.next);
       setJobs(jobsData);
       setTotalHours(totalData);
     } catch (error) {
@@ -73,6 +94,16 @@ export default function MyWorkHours() {
     }
   };
 
+  const loadMoreWorkHours = async (cursor: string) => {
+    try {
+      const page = await workHoursService.getMyWorkHours({ cursor });
+      setWorkHours((prev) => [...prev, ...page.items]);
+      setNextCursor(page.next);
+    } catch (error) {
+      toast.error('Failed to load work hours');
+    }
+  };
+
   const handleSubmit = async (e: React.FormEvent) => {
     e.preventDefault();
     try {
@@ -268,6 +299,8 @@ export default function MyWorkHours() {
             </div>
           </GlassCard>
         )}
+
+        <LoadMoreButton cursor={nextCursor} onLoadMore={loadMoreWorkHours} />
       </div>
     </div>
   );
@@ -1,7 +1,57 @@
-const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080/api';
+export const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080/api';
 
-export async function apiFetch(endpoint: string, options: RequestInit = {}) {
+const REFRESH_MARGIN_MS = 60_000;
+let refreshing: Promise<string | null> | null = null;
+
+function expiresAt(token: string): number {
+  try {
+    const payload = token.split('.')[1].replace(/-/g, '+').replace(/_/g, '/');
+    return JSON.parse(atob(payload)).exp * 1000;
+  } catch {
+    return 0;
+  }
+}
+
+function endSession() {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+  localStorage.removeItem('user');
+  window.location.assign('/login');
+}
+
+// Access tokens live 15 minutes; one is renewed with the refresh token shortly before it expires
+export async function getAccessToken(): Promise<string | null> {
   const token = localStorage.getItem('token');
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (!token || !refreshToken || expiresAt(token) - Date.now() > REFRESH_MARGIN_MS) {
+    return token;
+  }
+  refreshing ??= fetch(`${API_URL}/auth/refresh`, {
+    method: 'POST',
+    headers: { 'Content-Type': 'application/json' },
+    body: JSON.stringify({ refreshToken }),
+  })
+    .then(async (response) => {
+      if (!response.ok) {
+        // Expired or revoked, e.g. the account was deactivated
+        endSession();
+        return null;
+      }
+      const session = await response.json();
+      localStorage.setItem('token', session.token);
+      localStorage.setItem('refreshToken', session.refreshToken);
+      localStorage.setItem('user', JSON.stringify(session.user));
+      return session.token as string;
+    })
+    .catch(() => token)
+    .finally(() => {
+      refreshing = null;
+    });
+  return refreshing;
+}
+
+export async function apiFetch(endpoint: string, options: RequestInit = {}) {
+  const token = await getAccessToken();
   
   const headers: Record<string, string> = {
     'Content-Type': 'application/json',
@@ -28,3 +78,32 @@ export async function apiFetch(endpoint: string, options: RequestInit = {}) {
   
   return response.json();
 }
+
+export interface CursorPage<T> {
+  items: T[];
+  next: string | null;
+}
+
+export interface PageParams {
+  cursor?: string | null;
+  limit?: number;
+}
+
+export function pagePath(endpoint: string, page: PageParams = {}) {
+  const params = new URLSearchParams();
+  if (page.cursor) params.set('cursor', page.cursor);
+  if (page.limit) params.set('limit', String(page.limit));
+  const query = params.toString();
+  return query ? `${endpoint}?${query}` : endpoint;
+}
+
+export async function fetchAllPages<T>(endpoint: string, limit = 200): Promise<T[]> {
+  const items: T[] = [];
+  let cursor: string | null = null;
+  do {
+    const page: CursorPage<T> = await apiFetch(pagePath(endpoint, { cursor, limit }));
+    items.push(...page.items);
+    cursor = page.next;
+  } while (cursor);
+  return items;
+}
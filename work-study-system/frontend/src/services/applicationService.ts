@@ -1,4 +1,4 @@
-import { apiFetch } from './api';
+import { apiFetch, CursorPage, PageParams, pagePath } from './api';
 
 export interface Application {
   id: number;
@@ -37,17 +37,17 @@ export interface ApplicationStatusRequest {
 }
 
 export const applicationService = {
-  getAllApplications: (): Promise<Application[]> =>
-    apiFetch('/applications'),
+  getAllApplications: (page?: PageParams): Promise<CursorPage<Application>> =>
+    apiFetch(pagePath('/applications', page)),
 
-  getMyApplications: (): Promise<Application[]> =>
-    apiFetch('/applications/my'),
+  getMyApplications: (page?: PageParams): Promise<CursorPage<Application>> =>
+    apiFetch(pagePath('/applications/my', page)),
 
-  getApplicationsByJob: (jobId: number): Promise<Application[]> =>
-    apiFetch(`/applications/job/${jobId}`),
+  getApplicationsByJob: (jobId: number, page?: PageParams): Promise<CursorPage<Application>> =>
+    apiFetch(pagePath(`/applications/job/${jobId}`, page)),
 
-  getApplicationsByStatus: (status: string): Promise<Application[]> =>
-    apiFetch(`/applications/status/${status}`),
+  getApplicationsByStatus: (status: string, page?: PageParams): Promise<CursorPage<Application>> =>
+    apiFetch(pagePath(`/applications/status/${status}`, page)),
 
   getApplicationById: (id: number): Promise<Application> =>
     apiFetch(`/applications/${id}`),
@@ -2,6 +2,7 @@ import { apiFetch } from './api';
 
 interface LoginResponse {
   token: string;
+  refreshToken: string;
   user: {
     id: number;
     username: string;
@@ -0,0 +1,83 @@
+import { API_URL, getAccessToken } from './api';
+
+export interface StatusChangeEvent {
+  subject: 'APPLICATION' | 'WORK_HOURS';
+  id: number;
+  studentId: number;
+  status: string;
+  previousStatus?: string;
+  changedAt: string;
+}
+
+// Sent as "status-batch" when many entries change at once, as by a bulk approval
+export interface StatusBatchEvent {
+  subject: StatusChangeEvent['subject'];
+  ids: number[];
+  status: string;
+  changedAt: string;
+}
+
+// Either kind of event, as handed to subscribers
+export interface StatusUpdate {
+  subject: StatusChangeEvent['subject'];
+  ids: Set<number>;
+  status: string;
+}
+
+const RECONNECT_DELAY_MS = 5000;
+
+// EventSource cannot send the Authorization header, so the stream is read with fetch
+export const eventService = {
+  subscribe: (onEvent: (update: StatusUpdate) => void): (() => void) => {
+    const controller = new AbortController();
+
+    const connect = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          const response = await fetch(`${API_URL}/events`, {
+            headers: {
+              Accept: 'text/event-stream',
+              Authorization: `Bearer ${await getAccessToken()}`,
+            },
+            signal: controller.signal,
+          });
+          if (response.ok && response.body) {
+            const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+            let buffered = '';
+            for (;;) {
+              const { done, value } = await reader.read();
+              if (done) break;
+              buffered += value;
+              const frames = buffered.split('\n\n');
+              buffered = frames.pop() ?? '';
+              for (const frame of frames) {
+                const lines = frame.split('\n');
+                const name = lines.find((line) => line.startsWith('event:'))?.slice(6).trim();
+                const data = lines
+                  .filter((line) => line.startsWith('data:'))
+                  .map((line) => line.slice(5))
+                  .join('\n');
+                if (!data) continue;
+                if (name === 'status-batch') {
+                  const event: StatusBatchEvent = JSON.parse(data);
+                  onEvent({ subject: event.subject, ids: new Set(event.ids), status: event.status });
+                } else {
+                  const event: StatusChangeEvent = JSON.parse(data);
+                  onEvent({ subject: event.subject, ids: new Set([event.id]), status: event.status });
+                }
+              }
+            }
+          }
+        } catch {
+          // Aborted, or the connection dropped; retried below unless aborted
+        }
+        if (!controller.signal.aborted) {
+          await new Promise((resolve) => setTimeout(resolve, RECONNECT_DELAY_MS));
+        }
+      }
+    };
+
+    connect();
+    return () => controller.abort();
+  },
+};
@@ -1,4 +1,4 @@
-import { apiFetch } from './api';
+import { apiFetch, CursorPage, PageParams, pagePath } from './api';
 
 export interface Feedback {
   id: number;
@@ -29,17 +29,17 @@ export interface FeedbackRequest {
 }
 
 export const feedbackService = {
-  getAllFeedback: (): Promise<Feedback[]> =>
-    apiFetch('/feedback'),
+  getAllFeedback: (page?: PageParams): Promise<CursorPage<Feedback>> =>
+    apiFetch(pagePath('/feedback', page)),
 
-  getMyFeedback: (): Promise<Feedback[]> =>
-    apiFetch('/feedback/my'),
+  getMyFeedback: (page?: PageParams): Promise<CursorPage<Feedback>> =>
+    apiFetch(pagePath('/feedback/my', page)),
 
-  getFeedbackByStudent: (studentId: number): Promise<Feedback[]> =>
-    apiFetch(`/feedback/student/${studentId}`),
+  getFeedbackByStudent: (studentId: number, page?: PageParams): Promise<CursorPage<Feedback>> =>
+    apiFetch(pagePath(`/feedback/student/${studentId}`, page)),
 
-  getFeedbackByJob: (jobId: number): Promise<Feedback[]> =>
-    apiFetch(`/feedback/job/${jobId}`),
+  getFeedbackByJob: (jobId: number, page?: PageParams): Promise<CursorPage<Feedback>> =>
+    apiFetch(pagePath(`/feedback/job/${jobId}`, page)),
 
   getFeedbackById: (id: number): Promise<Feedback> =>
     apiFetch(`/feedback/${id}`),
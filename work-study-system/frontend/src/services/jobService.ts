@@ -1,4 +1,4 @@
-import { apiFetch } from './api';
+import { apiFetch, CursorPage, fetchAllPages, PageParams, pagePath } from './api';
 
 export interface JobPosting {
   id: number;
@@ -31,9 +31,23 @@ export interface JobPostingRequest {
   applicationDeadline: string;
 }
 
+export type JobFacet = 'department' | 'location' | 'rate' | 'hours' | 'openings';
+
+export type JobFacetSelection = Partial<Record<JobFacet, string[]>>;
+
+export interface JobFacetResult {
+  total: number;
+  items: JobPosting[];
+  next: string | null;
+  facets: Record<JobFacet, { value: string; count: number }[]>;
+}
+
 export const jobService = {
-  getAllJobs: (): Promise<JobPosting[]> =>
-    apiFetch('/jobs'),
+  getAllJobs: (page?: PageParams): Promise<CursorPage<JobPosting>> =>
+    apiFetch(pagePath('/jobs', page)),
+
+  fetchAllJobs: (): Promise<JobPosting[]> =>
+    fetchAllPages<JobPosting>('/jobs'),
 
   getActiveJobs: (): Promise<JobPosting[]> =>
     apiFetch('/jobs/active'),
@@ -41,8 +55,23 @@ export const jobService = {
   getJobById: (id: number): Promise<JobPosting> =>
     apiFetch(`/jobs/${id}`),
 
-  getJobsByDepartment: (department: string): Promise<JobPosting[]> =>
-    apiFetch(`/jobs/department/${department}`),
+  searchJobs: (query: string, status?: JobPosting['status'], limit?: number): Promise<JobPosting[]> => {
+    const params = new URLSearchParams({ q: query });
+    if (status) params.set('status', status);
+    if (limit) params.set('limit', String(limit));
+    return apiFetch(`/jobs/search?${params}`);
+  },
+
+  getActiveJobsByFacets: (selection: JobFacetSelection, page: PageParams = {}): Promise<JobFacetResult> => {
+    const params = new URLSearchParams();
+    Object.entries(selection).forEach(([facet, values]) => values?.forEach((value) => params.append(facet, value)));
+    if (page.cursor) params.set('cursor', page.cursor);
+    if (page.limit) params.set('limit', String(page.limit));
+    return apiFetch(`/jobs/facets?${params}`);
+  },
+
+  getJobsByDepartment: (department: string, page?: PageParams): Promise<CursorPage<JobPosting>> =>
+    apiFetch(pagePath(`/jobs/department/${department}`, page)),
 
   createJob: (data: JobPostingRequest): Promise<JobPosting> =>
     apiFetch('/jobs', {
@@ -0,0 +1,71 @@
+import { apiFetch, CursorPage, PageParams, pagePath } from './api';
+
+export interface PayrollTotals {
+  studentCount: number;
+  lineCount: number;
+  totalHours: number;
+  totalGross: number;
+}
+
+export interface PayrollRun {
+  id: number;
+  periodStart: string;
+  periodEnd: string;
+  createdBy: {
+    id: number;
+    fullName: string;
+  };
+  createdAt: string;
+  durationMillis: number;
+  computed: PayrollTotals;
+  current?: PayrollTotals;
+}
+
+export interface PayrollLine {
+  id: number;
+  runId: number;
+  student: {
+    id: number;
+    fullName: string;
+  };
+  job: {
+    id: number;
+    title: string;
+  };
+  department: string;
+  hours: number;
+  hourlyRate: number;
+  grossPay: number;
+  revision: number;
+  computedAt: string;
+}
+
+export interface PayrollRunRequest {
+  periodStart: string;
+  periodEnd: string;
+}
+
+export const payrollService = {
+  getRuns: (page?: PageParams): Promise<CursorPage<PayrollRun>> =>
+    apiFetch(pagePath('/payroll/runs', page)),
+
+  getRun: (id: number): Promise<PayrollRun> =>
+    apiFetch(`/payroll/runs/${id}`),
+
+  createRun: (data: PayrollRunRequest): Promise<PayrollRun> =>
+    apiFetch('/payroll/runs', {
+      method: 'POST',
+      body: JSON.stringify(data),
+    }),
+
+  getLines: (runId: number, page?: PageParams): Promise<CursorPage<PayrollLine>> =>
+    apiFetch(pagePath(`/payroll/runs/${runId}/lines`, page)),
+
+  getStudentLines: (runId: number, studentId: number): Promise<PayrollLine[]> =>
+    apiFetch(`/payroll/runs/${runId}/students/${studentId}`),
+
+  recomputeStudent: (runId: number, studentId: number): Promise<PayrollLine[]> =>
+    apiFetch(`/payroll/runs/${runId}/students/${studentId}/recompute`, {
+      method: 'POST',
+    }),
+};
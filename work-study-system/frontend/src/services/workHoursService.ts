@@ -1,4 +1,4 @@
-import { apiFetch } from './api';
+import { API_URL, apiFetch, CursorPage, getAccessToken, PageParams, pagePath } from './api';
 
 export interface WorkHours {
   id: number;
@@ -38,18 +38,66 @@ export interface WorkHoursStatusRequest {
   supervisorNotes?: string;
 }
 
+export interface WorkHoursBatchStatusRequest extends WorkHoursStatusRequest {
+  ids?: number[];
+  jobId?: number;
+  startDate?: string;
+  endDate?: string;
+  currentStatus?: string;
+}
+
+export interface WorkHoursBatchResult {
+  updated: number;
+  failed: number;
+  items: { id: number; success: boolean; message?: string }[];
+}
+
+export interface WorkHoursImportEvent {
+  type: 'ERROR' | 'PROGRESS' | 'COMPLETED' | 'ABORTED';
+  line?: number;
+  message?: string;
+  rowsRead?: number;
+  imported?: number;
+  failed?: number;
+}
+
+export interface StudentHoursTotal {
+  studentId: number;
+  totalHours: number;
+  entries: number;
+}
+
+export interface WorkHoursShift {
+  id: number;
+  studentId: number;
+  jobId: number;
+  workDate: string;
+  startTime: string;
+  endTime: string;
+}
+
+export interface WorkHoursOverlapReport {
+  scanned: number;
+  truncated: boolean;
+  overlaps: { first: WorkHoursShift; second: WorkHoursShift }[];
+  reversed: WorkHoursShift[];
+}
+
 export const workHoursService = {
-  getAllWorkHours: (): Promise<WorkHours[]> =>
-    apiFetch('/workhours'),
+  getAllWorkHours: (page?: PageParams): Promise<CursorPage<WorkHours>> =>
+    apiFetch(pagePath('/workhours', page)),
+
+  getMyWorkHours: (page?: PageParams): Promise<CursorPage<WorkHours>> =>
+    apiFetch(pagePath('/workhours/my', page)),
 
-  getMyWorkHours: (): Promise<WorkHours[]> =>
-    apiFetch('/workhours/my'),
+  getWorkHoursByStudent: (studentId: number, page?: PageParams): Promise<CursorPage<WorkHours>> =>
+    apiFetch(pagePath(`/workhours/student/${studentId}`, page)),
 
-  getWorkHoursByStudent: (studentId: number): Promise<WorkHours[]> =>
-    apiFetch(`/workhours/student/${studentId}`),
+  getWorkHoursByJob: (jobId: number, page?: PageParams): Promise<CursorPage<WorkHours>> =>
+    apiFetch(pagePath(`/workhours/job/${jobId}`, page)),
 
-  getWorkHoursByJob: (jobId: number): Promise<WorkHours[]> =>
-    apiFetch(`/workhours/job/${jobId}`),
+  findOverlaps: (limit?: number): Promise<WorkHoursOverlapReport> =>
+    apiFetch(limit ? `/workhours/overlaps?limit=${limit}` : '/workhours/overlaps'),
 
   getMyTotalHours: (): Promise<number> =>
     apiFetch('/workhours/my/total'),
@@ -57,6 +105,12 @@ export const workHoursService = {
   getStudentTotalHours: (studentId: number): Promise<number> =>
     apiFetch(`/workhours/student/${studentId}/total`),
 
+  getTotalHoursForStudents: (studentIds: number[]): Promise<StudentHoursTotal[]> =>
+    apiFetch('/workhours/totals', {
+      method: 'POST',
+      body: JSON.stringify({ studentIds }),
+    }),
+
   logWorkHours: (data: WorkHoursRequest): Promise<WorkHours> =>
     apiFetch('/workhours', {
       method: 'POST',
@@ -69,6 +123,44 @@ export const workHoursService = {
       body: JSON.stringify(data),
     }),
 
+  updateWorkHoursStatuses: (data: WorkHoursBatchStatusRequest): Promise<WorkHoursBatchResult> =>
+    apiFetch('/workhours/status', {
+      method: 'PATCH',
+      body: JSON.stringify(data),
+    }),
+
+  // Streams the file and reports each NDJSON event as it arrives; resolves with the final summary
+  importWorkHours: async (file: File, onEvent?: (event: WorkHoursImportEvent) => void): Promise<WorkHoursImportEvent> => {
+    const response = await fetch(`${API_URL}/workhours/import`, {
+      method: 'POST',
+      headers: {
+        'Content-Type': 'text/csv',
+        Authorization: `Bearer ${await getAccessToken()}`,
+      },
+      body: file,
+    });
+    if (!response.ok || !response.body) {
+      throw new Error((await response.text()) || 'Import failed');
+    }
+    const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffered = '';
+    let summary: WorkHoursImportEvent | undefined;
+    for (;;) {
+      const { done, value } = await reader.read();
+      if (done) break;
+      buffered += value;
+      const lines = buffered.split('\n');
+      buffered = lines.pop() ?? '';
+      for (const line of lines.filter(Boolean)) {
+        const event: WorkHoursImportEvent = JSON.parse(line);
+        onEvent?.(event);
+        if (event.type === 'COMPLETED' || event.type === 'ABORTED') summary = event;
+      }
+    }
+    if (!summary) throw new Error('Import ended without a summary');
+    return summary;
+  },
+
   updateWorkHours: (id: number, data: WorkHoursRequest): Promise<WorkHours> =>
     apiFetch(`/workhours/${id}`, {
       method: 'PUT',